@@ -1,8 +1,8 @@
 package com.project;
 
 import com.project.pages.CommonSteps;
-import com.project.tests.utilities.ExtractTestResultsFromLog;
 import com.project.tests.utilities.Log;
+import com.project.tests.utilities.RunEvents;
 import com.project.tests.utilities.SystemVsConfigProp;
 import jakarta.activation.DataHandler;
 import jakarta.activation.DataSource;
@@ -17,6 +17,7 @@ import org.apache.logging.log4j.Logger;
 import org.junit.jupiter.api.Assertions;
 
 import java.io.File;
+import java.util.Map;
 import java.util.Properties;
 
 public class PlaygroundTest extends CommonSteps {
@@ -24,16 +25,17 @@ public class PlaygroundTest extends CommonSteps {
     private static final String htmlContent = buildHtmlContent();
 
     private static String buildHtmlContent() {
-        String tagName = ExtractTestResultsFromLog.getMavenOptions(SystemVsConfigProp.SystemPropertyVariables.TagName.name());
-        String browserType = ExtractTestResultsFromLog.getMavenOptions(SystemVsConfigProp.SystemPropertyVariables.Browser.name());
-        String environment = ExtractTestResultsFromLog.getMavenOptions(SystemVsConfigProp.SystemPropertyVariables.Environment.name());
-        String appUrl = ExtractTestResultsFromLog.getMavenOptions(SystemVsConfigProp.SystemPropertyVariables.GOOGLEURL.name());
-        String deploymentVersion = ExtractTestResultsFromLog.getMavenOptions(SystemVsConfigProp.SystemPropertyVariables.DeploymentVersion.name());
-        String passedTests = ExtractTestResultsFromLog.getMavenOptions(SystemVsConfigProp.SystemPropertyVariables.PassedTests.name());
-        String failedTests = ExtractTestResultsFromLog.getMavenOptions(SystemVsConfigProp.SystemPropertyVariables.FailedTests.name());
-        String skippedTests = ExtractTestResultsFromLog.getMavenOptions(SystemVsConfigProp.SystemPropertyVariables.SkippedTests.name());
-        String totalTests = ExtractTestResultsFromLog.getMavenOptions(SystemVsConfigProp.SystemPropertyVariables.TotalTests.name());
-        String buildStatus = ExtractTestResultsFromLog.getMavenOptions(SystemVsConfigProp.SystemPropertyVariables.BuildStatus.name());
+        Map<String, String> runSummary = RunEvents.readRunSummary();
+        String tagName = runSummary.get(SystemVsConfigProp.SystemPropertyVariables.TagName.name());
+        String browserType = runSummary.get(SystemVsConfigProp.SystemPropertyVariables.Browser.name());
+        String environment = runSummary.get(SystemVsConfigProp.SystemPropertyVariables.Environment.name());
+        String appUrl = runSummary.get(SystemVsConfigProp.SystemPropertyVariables.GOOGLEURL.name());
+        String deploymentVersion = runSummary.get(SystemVsConfigProp.SystemPropertyVariables.DeploymentVersion.name());
+        String passedTests = runSummary.get(SystemVsConfigProp.SystemPropertyVariables.PassedTests.name());
+        String failedTests = runSummary.get(SystemVsConfigProp.SystemPropertyVariables.FailedTests.name());
+        String skippedTests = runSummary.get(SystemVsConfigProp.SystemPropertyVariables.SkippedTests.name());
+        String totalTests = runSummary.get(SystemVsConfigProp.SystemPropertyVariables.TotalTests.name());
+        String buildStatus = runSummary.get(SystemVsConfigProp.SystemPropertyVariables.BuildStatus.name());
 
         String userName = System.getProperty("user.name");
 
@@ -1,24 +1,69 @@
 package com.project.pageObjectManager;
 
 import com.project.pages.CommonSteps;
+import com.project.tests.utilities.ConfigProvider;
 import org.junit.jupiter.api.Assertions;
-import java.lang.reflect.InvocationTargetException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of page objects, scoped to the current thread so parallel scenarios never share an instance. <br>
+ * With PAGE_OBJECT_SCOPE = SCENARIO the pages of a thread are dropped at the end of every scenario,
+ * with THREAD they are reused by the following scenarios of the same thread. <br>
+ * Constructors are resolved once per page class and cached as MethodHandles.
+ */
 public class PageObjectManager {
-    private static final Map<String, CommonSteps> instances = new HashMap<>();
+    private static final ThreadLocal<Map<Class<?>, CommonSteps>> instances = ThreadLocal.withInitial(HashMap::new);
+    private static final Map<Class<?>, MethodHandle> constructors = new ConcurrentHashMap<>();
+    private static final MethodType NO_ARGUMENTS_CONSTRUCTOR = MethodType.methodType(void.class);
+
+    public enum Scope {
+        SCENARIO, THREAD
+    }
 
     public static <T extends CommonSteps> T get(Class<T> c) {
-        String key = c.toString();
-        CommonSteps instance = instances.get(key);
+        Map<Class<?>, CommonSteps> threadInstances = instances.get();
+        CommonSteps instance = threadInstances.get(c);
         if (instance == null) {
-            try {
-                instance = c.getDeclaredConstructor().newInstance();
-                instances.put(key, instance);
-            } catch (NoSuchMethodException | InstantiationException | IllegalAccessException | InvocationTargetException e) {
-                Assertions.fail(e.getMessage());
-            }
+            instance = newInstance(c);
+            threadInstances.put(c, instance);
         }
         return c.cast(instance);
     }
+
+    /**
+     * Drops the pages of the current thread when the scope is SCENARIO. Call it at the end of every scenario.
+     */
+    public static void endScenario() {
+        if (getScope() == Scope.SCENARIO) {
+            instances.remove();
+        }
+    }
+
+    public static Scope getScope() {
+        String scope = ConfigProvider.getAsString("PAGE_OBJECT_SCOPE");
+        return scope == null || scope.isBlank() ? Scope.SCENARIO : Scope.valueOf(scope.trim().toUpperCase());
+    }
+
+    private static <T extends CommonSteps> T newInstance(Class<T> c) {
+        try {
+            MethodHandle constructor = constructors.computeIfAbsent(c, PageObjectManager::findConstructor);
+            return c.cast(constructor.invoke());
+        } catch (Throwable e) {
+            return Assertions.fail("Failed to create page [" + c.getName() + "]. Exception: " + e.getMessage(), e);
+        }
+    }
+
+    private static MethodHandle findConstructor(Class<?> c) {
+        try {
+            return MethodHandles.publicLookup().findConstructor(c, NO_ARGUMENTS_CONSTRUCTOR);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException("Page [" + c.getName() + "] needs a public no-argument constructor", e);
+        }
+    }
 }
@@ -0,0 +1,51 @@
+package com.project.pageObjectManager;
+
+import com.project.pages.CommonSteps;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that a page object is shared within a scenario and never between threads or, with
+ * PAGE_OBJECT_SCOPE = SCENARIO, between the scenarios of a thread.
+ */
+@Tag("unit")
+class PageObjectManagerTest {
+
+    public static class SearchPage extends CommonSteps {
+    }
+
+    @AfterEach
+    void endScenario() {
+        PageObjectManager.endScenario();
+    }
+
+    @Test
+    void scenarioGetsTheSamePageEveryTime() {
+        Assertions.assertSame(PageObjectManager.get(SearchPage.class), PageObjectManager.get(SearchPage.class));
+    }
+
+    @Test
+    void otherThreadGetsItsOwnPage() throws InterruptedException {
+        SearchPage page = PageObjectManager.get(SearchPage.class);
+        SearchPage[] otherThreadPage = new SearchPage[1];
+        Thread otherThread = new Thread(() -> otherThreadPage[0] = PageObjectManager.get(SearchPage.class));
+        otherThread.start();
+        otherThread.join();
+        Assertions.assertNotNull(otherThreadPage[0], "The other thread could not create the page");
+        Assertions.assertNotSame(page, otherThreadPage[0]);
+    }
+
+    @Test
+    void nextScenarioFollowsTheScope() {
+        SearchPage page = PageObjectManager.get(SearchPage.class);
+        PageObjectManager.endScenario();
+        SearchPage nextScenarioPage = PageObjectManager.get(SearchPage.class);
+        if (PageObjectManager.getScope() == PageObjectManager.Scope.SCENARIO) {
+            Assertions.assertNotSame(page, nextScenarioPage, "SCENARIO scope must drop the page");
+        } else {
+            Assertions.assertSame(page, nextScenarioPage, "THREAD scope must reuse the page");
+        }
+    }
+}
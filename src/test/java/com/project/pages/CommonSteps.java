@@ -1,61 +1,55 @@
 package com.project.pages;
 
+import com.project.tests.utilities.RuntimeProperties;
 import com.project.tests.utilities.SeleniumUtils;
+import com.project.tests.utilities.SleepAudit;
 import com.project.tests.utilities.SystemVsConfigProp;
+import com.project.tests.utilities.Template;
 import org.junit.jupiter.api.Assertions;
 
 import java.sql.Connection;
 import java.util.Base64;
-import java.util.Properties;
 
 public class CommonSteps extends SeleniumUtils {
     public static Connection dbConnection = null;
     protected static SystemVsConfigProp systemVsConfigProp = new SystemVsConfigProp();
-    public static Properties runtimeProperties = new Properties();
+
+    /**
+     * Saves a value for the later steps of the current scenario, see RuntimeProperties.
+     */
     public static void putRunTimeProperty(String key, String value) {
-        runtimeProperties.put(key, value);
+        RuntimeProperties.put(key, value);
     }
 
+    /**
+     * Sleeps for a fixed time. Prefer ConditionWait or WaitEngine, which return as soon as the condition holds.
+     * With SLEEP_AUDIT every call is logged with its caller.
+     */
     public static void waitForSeconds(double seconds) {
         try {
             long milliseconds = (long) (seconds * 1000);
             Thread.sleep(milliseconds);
+            if (SleepAudit.isEnabled()) {
+                SleepAudit.record(milliseconds);
+            }
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             Assertions.fail("Failed to wait for seconds. Exception: " + e.getMessage());
         }
     }
 
+    /**
+     * @return The value saved for the current scenario, with its {$key} placeholders replaced. Fails when missing.
+     */
     public static String getRunTimeProperty(String key) {
-        String value = "";
-        try {
-            Object propertyValue = runtimeProperties.get(key);
-            if (propertyValue != null) {
-                value = propertyValue.toString();
-                return replaceArgumentsWithRunTimeProperties(value);
-            } else {
-                throw new Exception("Property not found for key: [" + key +"].");
-            }
-        } catch (Exception e) {
-            System.out.println(e.getMessage());
-            Assertions.fail(e.getMessage());
-        }
-        return value;
+        return replaceArgumentsWithRunTimeProperties("{$" + key + "}");
     }
 
+    /**
+     * Replaces the {$key} placeholders of the input with the runtime properties, see Template.
+     */
     public static String replaceArgumentsWithRunTimeProperties(String input) {
-        String str = "select * from ole.table1 where name = {$name} and lastName = {$lastName}";
-        if (input.contains("{$")) {
-            int firstIndex = input.indexOf("{$");
-            int lastIndex = input.indexOf("}", firstIndex);
-            String key = input.substring(firstIndex + 2, lastIndex);
-            String value = getRunTimeProperty(key);
-            input = input.replace("{$" + key + "}", value);
-            System.out.println("Key [" + key + "] replaced with value [" + value + "].");
-            return replaceArgumentsWithRunTimeProperties(input);
-        } else {
-            return input;
-        }
+        return Template.compile(input).render(RuntimeProperties::get);
     }
 
     public static String decodeBase64(String encodedText) {
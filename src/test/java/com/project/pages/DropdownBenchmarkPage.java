@@ -0,0 +1,42 @@
+package com.project.pages;
+
+import com.project.tests.utilities.Driver;
+import com.project.tests.utilities.DropdownOption;
+import com.project.tests.utilities.Log;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.Assertions;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+import java.io.File;
+import java.util.List;
+
+public class DropdownBenchmarkPage extends CommonSteps {
+    private static final Logger LOGGER = LogManager.getLogger(DropdownBenchmarkPage.class);
+    private static final String FIXTURE_PATH = System.getProperty("user.dir") + File.separator + "src" + File.separator +
+            "test" + File.separator + "resources" + File.separator + "fixtures" + File.separator + "dropdown-benchmark.html";
+
+    private static final By benchmarkDropdown = By.id("benchmarkDropdown");
+
+    public void loadPage(int numberOfOptions) {
+        Driver.getDriver().get(new File(FIXTURE_PATH).toURI() + "#" + numberOfOptions);
+        Log.info(LOGGER, "Loaded the dropdown benchmark page with [{}] options", numberOfOptions);
+    }
+
+    public void compareDropdownExtraction() {
+        WebElement dropdown = getElement(benchmarkDropdown);
+
+        long start = System.nanoTime();
+        List<DropdownOption> scriptOptions = readDropdownOptionsWithScript(dropdown);
+        long scriptMillis = (System.nanoTime() - start) / 1_000_000;
+
+        start = System.nanoTime();
+        List<DropdownOption> selectOptions = readDropdownOptionsWithSelect(dropdown);
+        long selectMillis = (System.nanoTime() - start) / 1_000_000;
+
+        Log.info(LOGGER, "Read [{}] options with one script call in [{}] ms and with Select in [{}] ms",
+                scriptOptions.size(), scriptMillis, selectMillis);
+        Assertions.assertEquals(selectOptions, scriptOptions, "Script and Select paths returned different options");
+    }
+}
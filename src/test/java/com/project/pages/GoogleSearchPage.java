@@ -1,6 +1,7 @@
 package com.project.pages;
 
 import com.project.tests.utilities.Driver;
+import com.project.tests.utilities.LocatorCache;
 import com.project.tests.utilities.Log;
 import com.project.tests.utilities.SystemVsConfigProp;
 import org.apache.logging.log4j.LogManager;
@@ -12,8 +13,8 @@ public class GoogleSearchPage extends CommonSteps {
     private static final Logger LOGGER = LogManager.getLogger(GoogleSearchPage.class);
     SystemVsConfigProp systemVsConfigProp = new SystemVsConfigProp();
 
-    private static final By searchBox = By.name("q");
-    private static final By searchButton = By.name("btnK");
+    private static final By searchBox = LocatorCache.stable(By.name("q"));
+    private static final By searchButton = LocatorCache.stable(By.name("btnK"));
     private static final By shoppingHeader = By.xpath("//div[contains(text(),'Shopping')]");
 
     public void loadPage() {
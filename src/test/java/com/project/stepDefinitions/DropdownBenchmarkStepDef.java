@@ -0,0 +1,17 @@
+package com.project.stepDefinitions;
+
+import com.project.pages.DropdownBenchmarkPage;
+import io.cucumber.java.en.Given;
+import io.cucumber.java.en.Then;
+
+public class DropdownBenchmarkStepDef extends AbstractSteps {
+    @Given("Load the dropdown benchmark page with {int} options")
+    public void loadTheDropdownBenchmarkPage(int numberOfOptions) {
+        getPage(DropdownBenchmarkPage.class).loadPage(numberOfOptions);
+    }
+
+    @Then("Compare reading the dropdown options with one script call and with Select")
+    public void compareReadingTheDropdownOptions() {
+        getPage(DropdownBenchmarkPage.class).compareDropdownExtraction();
+    }
+}
@@ -1,29 +1,44 @@
 package com.project.stepDefinitions;
 
 import com.project.PlaygroundTest;
-import com.project.pages.CommonSteps;
+import com.project.pageObjectManager.PageObjectManager;
+import com.project.tests.utilities.BrowserResourceReport;
+import com.project.tests.utilities.ConditionWait;
 import com.project.tests.utilities.ConfigProvider;
 import com.project.tests.utilities.Driver;
+import com.project.tests.utilities.DriverPool;
+import com.project.tests.utilities.LocatorCache;
 import com.project.tests.utilities.Log;
-import com.project.utility.extentreports.ExtentConfiguration;
+import com.project.tests.utilities.RunEvents;
+import com.project.tests.utilities.RuntimeProperties;
+import com.project.tests.utilities.ScenarioLogContext;
+import com.project.tests.utilities.SleepAudit;
+import com.project.tests.utilities.StepTimer;
+import com.project.tests.utilities.TestDataRegistry;
 import com.project.utility.extentreports.ExtentTestManager;
+import com.project.utility.extentreports.ScreenshotDedup;
+import com.project.utility.extentreports.ScreenshotPipeline;
+import com.project.utility.extentreports.Screenshots;
 import io.cucumber.java.*;
-import org.apache.commons.io.FileUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.junit.jupiter.api.Assertions;
-import org.openqa.selenium.OutputType;
 
 import com.project.tests.utilities.SystemVsConfigProp;
+import com.project.tests.utilities.WaitEngine;
 
-import java.io.File;
+import java.nio.file.Path;
+import java.time.Duration;
 
 public class Hooks {
     private static final Logger LOGGER = LogManager.getLogger(Hooks.class);
+    private static final ScreenshotDedup<String> STEP_FRAMES = new ScreenshotDedup<>();
     private String scenarioName;
+    private int stepNumber = 0;
     SystemVsConfigProp systemVsConfigProp = new SystemVsConfigProp();
     private static final String BROWSER = SystemVsConfigProp.SystemPropertyVariables.Browser.name();
     private static final String ENVIRONMENT = SystemVsConfigProp.SystemPropertyVariables.Environment.name();
+    private static final String GOOGLEURL = SystemVsConfigProp.SystemPropertyVariables.GOOGLEURL.name();
 
     private static boolean isSetUpDone = false;
     private static int totalTests = 0;
@@ -33,9 +48,16 @@ public class Hooks {
 
     private static String tagName = "";
 
+    @BeforeAll
+    public static void beforeAll() {
+        TestDataRegistry.preload();
+    }
+
     @Before
     public void beforeEachScenario(Scenario scenario) {
         scenarioName = scenario.getName();
+        ScenarioLogContext.startScenario(scenarioName);
+        RuntimeProperties.startScenario();
         if (tagName.isEmpty()) {
             tagName = scenario.getSourceTagNames().toString().substring(1);
         }
@@ -64,15 +86,25 @@ public class Hooks {
     @After
     public void afterEachScenario(Scenario scenario) {
         scenarioName = scenario.getName();
+        LocatorCache.endScenario(scenarioName);
+        PageObjectManager.endScenario();
         try {
+            BrowserResourceReport.sample(Driver.getDriver());
             String status;
             boolean isFailed = scenario.isFailed();
             if (isFailed) {
                 status = "Fail";
-                CommonSteps.waitForSeconds(2);
-                takeScreenShot(scenarioName);
-                byte[] screenshotBytes = Driver.getDriver().getScreenshotAs(OutputType.BYTES);
+                if (!ScreenshotPipeline.hasCapture()) {
+                    // Give a page that is still loading up to 2 seconds to render before the failure screenshot
+                    ConditionWait.isMet(() -> "complete".equals(Driver.getDriver().executeScript("return document.readyState")),
+                            Duration.ofSeconds(2), ConditionWait.PollStrategy.fixed(Duration.ofMillis(100)));
+                }
+                // IMPORTANT: reuses the @AfterStep screenshot of the failed step, the file is written in the background
+                byte[] screenshotBytes = ScreenshotPipeline.captureOrReuse(Driver.getDriver());
+                ScreenshotPipeline.write(screenshotBytes, Path.of(System.getProperty("user.dir"), "screen_capture",
+                        scenarioName + ScreenshotPipeline.getExtension()));
                 scenario.attach(screenshotBytes, "image/png", scenarioName);
+                Driver.discardPooledDriver();
                 failedTests++;
             } else {
                 status = "Pass";
@@ -84,24 +116,52 @@ public class Hooks {
         } catch (Exception e) {
             Log.error(LOGGER, "Exception in Hooks @afterEachScenario: {}", e.getMessage());
             Assertions.fail("Exception in Hooks @afterEachScenario: " + e.getMessage());
+        } finally {
+            ExtentTestManager.endTest();
+            ScreenshotDedup.endScenario();
+            RuntimeProperties.endScenario();
+            ScenarioLogContext.endScenario();
         }
     }
 
+    @BeforeStep
+    public void startStepTimer() {
+        StepTimer.startStep();
+        ScreenshotPipeline.invalidate();
+    }
+
     @AfterStep
     public void takeScreenshotAfterEachScenario(Scenario scenario) {
+        StepTimer.endStep();
         scenarioName = scenario.getName();
-        final byte[] screenshotBytes = Driver.getDriver().getScreenshotAs(OutputType.BYTES);
-        scenario.attach(screenshotBytes, "image/png", scenarioName);
+        final byte[] screenshotBytes = ScreenshotPipeline.capture(Driver.getDriver());
+        String attachmentName = scenarioName + " - step " + ++stepNumber;
+        String reference = STEP_FRAMES.store(screenshotBytes, bytes -> {
+            scenario.attach(bytes, "image/png", attachmentName);
+            return attachmentName;
+        });
+        if (!reference.equals(attachmentName)) {
+            scenario.attach("Same screen as [" + reference + "]", "text/plain", attachmentName);
+        }
     }
 
 
     // IMPORTANT: @AfterAll works fine, ignore the message when you hover-over
     @AfterAll
     public static void afterAll() {
+        ScreenshotPipeline.shutdown();
+        ScreenshotDedup.logSummary();
+        Screenshots.endRun();
         if (ConfigProvider.getAsString("isExtentReportRequired").equals("true")) {
-            ExtentConfiguration.getInstance().flush();
-            ExtentTestManager.endTest();
+            ExtentTestManager.flush();
         }
+        DriverPool.shutdown();
+        BrowserResourceReport.logSummary();
+        WaitEngine.logSummary();
+        LocatorCache.logSummary();
+        SleepAudit.logSummary();
+        StepTimer.logSummary();
+        ScenarioLogContext.endRun();
         Log.info(LOGGER, "Report flush.");
         Log.info(LOGGER, "[TagName] is [{}]", tagName);
         Log.info(LOGGER, "[DeploymentVersion] is [dgw536454ww6fds]");
@@ -116,6 +176,18 @@ public class Hooks {
             buildStatus = "All tests are passing";
         }
         Log.info(LOGGER, "[BuildStatus] is [{}]", buildStatus);
+        SystemVsConfigProp properties = new SystemVsConfigProp();
+        RunEvents.emit(RunEvents.RUN_SUMMARY,
+                SystemVsConfigProp.SystemPropertyVariables.TagName.name(), tagName,
+                BROWSER, properties.getProperty(BROWSER),
+                ENVIRONMENT, properties.getProperty(ENVIRONMENT),
+                GOOGLEURL, properties.getProperty(GOOGLEURL),
+                SystemVsConfigProp.SystemPropertyVariables.DeploymentVersion.name(), "dgw536454ww6fds",
+                SystemVsConfigProp.SystemPropertyVariables.TotalTests.name(), totalTests,
+                SystemVsConfigProp.SystemPropertyVariables.PassedTests.name(), passedTests,
+                SystemVsConfigProp.SystemPropertyVariables.SkippedTests.name(), skippedTests,
+                SystemVsConfigProp.SystemPropertyVariables.FailedTests.name(), failedTests,
+                SystemVsConfigProp.SystemPropertyVariables.BuildStatus.name(), buildStatus);
 
         try {
             String[] to = new String[]{
@@ -129,15 +201,4 @@ public class Hooks {
             Assertions.fail("Failed to send email with attachments in Hooks @AfterAll. Exception: " + e.getMessage());
         }
     }
-
-    private void takeScreenShot(String scenarioName) {
-        try {
-            File screenshotFile = Driver.getDriver().getScreenshotAs(OutputType.FILE);
-            String pathName = System.getProperty("user.dir") + "/screen_capture/" + scenarioName + ".png";
-            FileUtils.copyFile(screenshotFile, new File(pathName));
-        } catch (Exception e) {
-            Log.error(LOGGER, "Failed to take screenshot. Exception: " + e.getMessage());
-            Assertions.fail("Failed to take screenshot. Exception: " + e.getMessage());
-        }
-    }
 }
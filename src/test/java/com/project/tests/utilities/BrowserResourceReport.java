@@ -0,0 +1,140 @@
+package com.project.tests.utilities;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.chromium.ChromiumDriver;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures how much memory and CPU each browser session uses, so forkCount can be sized from measurements. <br>
+ * - Per session (Chromium only): JS heap and main thread task time from the CDP Performance domain <br>
+ * - Per run: resident memory of the browser processes started by this JVM (Linux /proc) and their CPU time,
+ * kept per process at its last sample so sessions that already quit still count <br>
+ * Enabled with BROWSER_RESOURCE_REPORT in Config.properties, the summary is logged once in @AfterAll.
+ */
+public final class BrowserResourceReport {
+    private static final Logger LOGGER = LogManager.getLogger(BrowserResourceReport.class);
+    private static final long MB = 1024 * 1024;
+
+    private static final LongAdder sampledSessions = new LongAdder();
+    private static final LongAdder jsHeapUsedBytes = new LongAdder();
+    private static final LongAdder taskDurationMillis = new LongAdder();
+    private static final AtomicLong peakBrowserRssBytes = new AtomicLong();
+    private static final AtomicLong peakBrowserSessions = new AtomicLong();
+    // IMPORTANT: keyed by pid and start time, a pid can be reused by a later process
+    private static final Map<String, Long> cpuMillisByProcess = new ConcurrentHashMap<>();
+    private static final Set<String> driverProcesses = ConcurrentHashMap.newKeySet();
+
+    private BrowserResourceReport() {
+    }
+
+    public static boolean isEnabled() {
+        return ConfigProvider.getAsBoolean("BROWSER_RESOURCE_REPORT");
+    }
+
+    /**
+     * Records the resource usage of the given session. Call it at the end of the scenario, before tear down.
+     *
+     * @param driver The session to measure.
+     */
+    public static void sample(RemoteWebDriver driver) {
+        if (!isEnabled() || driver == null) {
+            return;
+        }
+        try {
+            if (driver instanceof ChromiumDriver chromiumDriver) {
+                chromiumDriver.executeCdpCommand("Performance.enable", Map.of());
+                Map<String, Object> response = chromiumDriver.executeCdpCommand("Performance.getMetrics", Map.of());
+                @SuppressWarnings("unchecked")
+                List<Map<String, Object>> metrics = (List<Map<String, Object>>) response.get("metrics");
+                for (Map<String, Object> metric : metrics) {
+                    double value = ((Number) metric.get("value")).doubleValue();
+                    switch (String.valueOf(metric.get("name"))) {
+                        case "JSHeapUsedSize" -> jsHeapUsedBytes.add((long) value);
+                        case "TaskDuration" -> taskDurationMillis.add((long) (value * 1000));
+                        default -> {
+                        }
+                    }
+                }
+                sampledSessions.increment();
+            }
+            sampleBrowserProcesses();
+        } catch (Exception e) {
+            LOGGER.warn("Failed to sample browser resources for session [{}]. Exception: {}",
+                    driver.getSessionId(), e.getMessage());
+        }
+    }
+
+    private static void sampleBrowserProcesses() {
+        long rssBytes = 0;
+        long sessions = 0;
+        for (ProcessHandle process : ProcessHandle.current().descendants().toList()) {
+            ProcessHandle.Info info = process.info();
+            String processKey = process.pid() + "@" + info.startInstant().map(Object::toString).orElse("");
+            String command = info.command().orElse("");
+            if (command.endsWith("chromedriver") || command.endsWith("msedgedriver") || command.endsWith("geckodriver")) {
+                sessions++;
+                driverProcesses.add(processKey);
+            }
+            rssBytes += readRssBytes(process.pid());
+            info.totalCpuDuration().map(Duration::toMillis)
+                    .ifPresent(cpuMillis -> cpuMillisByProcess.merge(processKey, cpuMillis, Math::max));
+        }
+        peakBrowserSessions.accumulateAndGet(sessions, Math::max);
+        peakBrowserRssBytes.accumulateAndGet(rssBytes, Math::max);
+    }
+
+    // IMPORTANT: resident memory is only available on Linux agents, other platforms report 0
+    private static long readRssBytes(long pid) {
+        Path status = Path.of("/proc", String.valueOf(pid), "status");
+        if (!Files.isReadable(status)) {
+            return 0;
+        }
+        try {
+            for (String line : Files.readAllLines(status)) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("\\D", "")) * 1024;
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            return 0;
+        }
+        return 0;
+    }
+
+    public static void logSummary() {
+        if (!isEnabled()) {
+            return;
+        }
+        long sessions = Math.max(1, sampledSessions.sum());
+        long peakSessions = Math.max(1, peakBrowserSessions.get());
+        long rssPerSession = peakBrowserRssBytes.get() / peakSessions;
+        LOGGER.info("[BrowserSessionsSampled] is [{}]", sampledSessions.sum());
+        LOGGER.info("[AvgJsHeapUsedMB] is [{}]", jsHeapUsedBytes.sum() / sessions / MB);
+        LOGGER.info("[AvgTaskDurationMs] is [{}]", taskDurationMillis.sum() / sessions);
+        LOGGER.info("[PeakBrowserSessions] is [{}]", peakBrowserSessions.get());
+        LOGGER.info("[PeakBrowserRssMB] is [{}]", peakBrowserRssBytes.get() / MB);
+        LOGGER.info("[BrowserRssPerSessionMB] is [{}]", rssPerSession / MB);
+        long browserCpuMillis = cpuMillisByProcess.values().stream().mapToLong(Long::longValue).sum();
+        LOGGER.info("[BrowserSessionsStarted] is [{}]", driverProcesses.size());
+        LOGGER.info("[BrowserCpuMs] is [{}]", browserCpuMillis);
+        LOGGER.info("[BrowserCpuPerSessionMs] is [{}]", browserCpuMillis / Math.max(1, driverProcesses.size()));
+        if (rssPerSession > 0 && ManagementFactory.getOperatingSystemMXBean()
+                instanceof com.sun.management.OperatingSystemMXBean osBean) {
+            long suggestedForkCount = (long) (osBean.getTotalMemorySize() * 0.8) / rssPerSession;
+            LOGGER.info("[SuggestedForkCountByMemory] is [{}]", suggestedForkCount);
+        }
+    }
+}
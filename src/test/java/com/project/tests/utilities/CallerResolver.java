@@ -0,0 +1,54 @@
+package com.project.tests.utilities;
+
+import com.project.pages.CommonSteps;
+import com.project.stepDefinitions.AbstractSteps;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves the code location that a log line belongs to, e.g. "GoogleSearchPage.searchOnGoogle[31]". <br>
+ * The stack is walked lazily with StackWalker and only until the first frame outside the framework classes
+ * (logging, SeleniumUtils and WaitEngine, and the CommonSteps/AbstractSteps base classes of pages and step
+ * definitions), so the depth of the call no longer matters. <br>
+ * Simple class names are cached per class name.
+ */
+public final class CallerResolver {
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+    private static final Set<String> FRAMEWORK_CLASSES = Set.of(CallerResolver.class.getName(), Log.class.getName(),
+            SeleniumUtils.class.getName(), WaitEngine.class.getName(), CommonSteps.class.getName(),
+            AbstractSteps.class.getName());
+    private static final Map<String, String> simpleClassNames = new ConcurrentHashMap<>();
+
+    private CallerResolver() {
+    }
+
+    /**
+     * @return The first caller outside the framework classes as "SimpleClassName.method[line]". When the whole
+     * stack is framework code, the first caller outside Log is returned instead.
+     */
+    public static String resolve() {
+        return STACK_WALKER.walk(frames -> {
+            Optional<StackWalker.StackFrame> firstNonLogFrame = Optional.empty();
+            for (StackWalker.StackFrame frame : (Iterable<StackWalker.StackFrame>) frames::iterator) {
+                String className = frame.getClassName();
+                if (!FRAMEWORK_CLASSES.contains(className)) {
+                    return format(frame);
+                }
+                if (firstNonLogFrame.isEmpty() && !className.equals(Log.class.getName())
+                        && !className.equals(CallerResolver.class.getName())) {
+                    firstNonLogFrame = Optional.of(frame);
+                }
+            }
+            return firstNonLogFrame.map(CallerResolver::format).orElse("Unknown");
+        });
+    }
+
+    private static String format(StackWalker.StackFrame frame) {
+        String simpleClassName = simpleClassNames.computeIfAbsent(frame.getClassName(), className ->
+                className.substring(className.lastIndexOf('.') + 1));
+        return simpleClassName + "." + frame.getMethodName() + "[" + frame.getLineNumber() + "]";
+    }
+}
@@ -0,0 +1,23 @@
+package com.project.tests.utilities;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks the caller CallerResolver returns, the cost of the lookup is measured by LogBenchmark.
+ */
+@Tag("unit")
+class CallerResolverTest {
+
+    @Test
+    void resolvesTheFirstCallerOutsideTheFramework() {
+        int line = currentLine() + 1;
+        String caller = CallerResolver.resolve();
+        Assertions.assertEquals("CallerResolverTest.resolvesTheFirstCallerOutsideTheFramework[" + line + "]", caller);
+    }
+
+    private static int currentLine() {
+        return StackWalker.getInstance().walk(frames -> frames.skip(1).findFirst()).orElseThrow().getLineNumber();
+    }
+}
@@ -0,0 +1,81 @@
+package com.project.tests.utilities;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Condition based replacement for fixed sleeps, for conditions that do not need a WebDriver (see WaitEngine for those). <br>
+ * The condition is evaluated first and then after every poll interval, the wait returns as soon as it holds. <br>
+ * Exceptions thrown by the condition are not ignored, the condition decides what counts as "not yet".
+ */
+public final class ConditionWait {
+
+    private ConditionWait() {
+    }
+
+    /**
+     * How long to wait between two evaluations of the condition.
+     *
+     * @param initialInterval The interval after the first evaluation.
+     * @param maxInterval     The interval never grows beyond this value.
+     * @param multiplier      The interval is multiplied by this value after each evaluation, 1 for a fixed interval.
+     */
+    public record PollStrategy(Duration initialInterval, Duration maxInterval, double multiplier) {
+
+        public static PollStrategy fixed(Duration interval) {
+            return new PollStrategy(interval, interval, 1);
+        }
+
+        public static PollStrategy backoff(Duration initialInterval, Duration maxInterval) {
+            return new PollStrategy(initialInterval, maxInterval, 2);
+        }
+
+        private long next(long intervalMillis) {
+            return Math.min((long) (intervalMillis * multiplier), maxInterval.toMillis());
+        }
+    }
+
+    /**
+     * Waits until the condition returns a value that is neither null nor false.
+     *
+     * @param condition    The condition to evaluate.
+     * @param timeout      The maximum time to wait.
+     * @param pollStrategy How long to wait between two evaluations.
+     * @return The first value that is neither null nor false, or an empty Optional if the timeout is reached first.
+     */
+    public static <T> Optional<T> until(Supplier<T> condition, Duration timeout, PollStrategy pollStrategy) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        long intervalMillis = pollStrategy.initialInterval().toMillis();
+        while (true) {
+            T value = condition.get();
+            if (value != null && !Boolean.FALSE.equals(value)) {
+                return Optional.of(value);
+            }
+            long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remainingMillis <= 0) {
+                return Optional.empty();
+            }
+            try {
+                Thread.sleep(Math.min(intervalMillis, remainingMillis));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Optional.empty();
+            }
+            intervalMillis = pollStrategy.next(intervalMillis);
+        }
+    }
+
+    /**
+     * Waits until the condition is true.
+     *
+     * @param condition    The condition to evaluate.
+     * @param timeout      The maximum time to wait.
+     * @param pollStrategy How long to wait between two evaluations.
+     * @return true if the condition held within the timeout.
+     */
+    public static boolean isMet(Supplier<Boolean> condition, Duration timeout, PollStrategy pollStrategy) {
+        return until(condition, timeout, pollStrategy).isPresent();
+    }
+}
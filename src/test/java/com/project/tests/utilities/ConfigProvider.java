@@ -1,98 +1,189 @@
 package com.project.tests.utilities;
 
-import org.jetbrains.annotations.NotNull;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.junit.jupiter.api.Assertions;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.IOException;
-import java.io.InputStream;
-import java.util.HashMap;
-import java.util.Map;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalUnit;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CopyOnWriteArrayList;
 
+/**
+ * Read-only access to the configuration, see {@link ConfigSnapshot} for how the files, environment specific keys
+ * and system properties are merged. The snapshot is loaded the first time the class is used,
+ * and its validation report is logged at the same time. <br>
+ * With CONFIG_HOT_RELOAD the config folder is watched and a changed file swaps in a new snapshot, readers only pay
+ * one volatile read. Components that cache a value subscribe with {@link #addListener(ConfigChangeListener)}
+ * (DriverPool, PageReadiness, ScreenshotPipeline, ExtentTestManager). <br>
+ * IMPORTANT: the environment settings (EnvironmentResolver) are resolved once per run and are not reloaded, neither are
+ * SCREENSHOT_QUEUE_SIZE, DRIVER_POOL_WARM_UP, RUN_EVENTS_FILE, TEST_DATA_FILES and the mail host.
+ */
 public final class ConfigProvider {
-    private static Properties props;
-    private static final Map<String, Properties> configMap = new HashMap<>();
-    private static final String PROPERTIES_EXT = ".properties";
+    private static final Logger LOGGER = LogManager.getLogger(ConfigProvider.class);
     private static final String PROPERTIES_FOLDER = System.getProperty("user.dir") + File.separator + "src" +
             File.separator + "test" + File.separator + "resources" + File.separator + "ApplicationFiles" +
             File.separator + "ConfigFiles" + File.separator;
+    private static final List<ConfigChangeListener> listeners = new CopyOnWriteArrayList<>();
+    private static volatile ConfigSnapshot snapshot = loadSnapshot();
+
+    static {
+        if (snapshot.getAsBoolean("CONFIG_HOT_RELOAD")) {
+            ConfigWatcher.start(Path.of(PROPERTIES_FOLDER));
+        }
+    }
 
     private ConfigProvider() {
     }
 
-    private static Properties getInstance(String propertyFileName) {
-        Properties props;
-        if (configMap.isEmpty()) {
-            props = loadProperties(propertyFileName);
-            configMap.put(propertyFileName, props);
-            return props;
-        }
-        for (Map.Entry<String, Properties> entry : configMap.entrySet()) {
-            if (entry.getKey().equals(propertyFileName)) {
-                return entry.getValue();
-            }
-        }
-        props = loadProperties(propertyFileName);
-        configMap.put(propertyFileName, props);
-        return props;
+    /**
+     * Notified after a reload, on the watcher thread, with the keys whose values changed.
+     */
+    @FunctionalInterface
+    public interface ConfigChangeListener {
+        void onChange(ConfigSnapshot previous, ConfigSnapshot current, Set<String> changedKeys);
     }
 
-    public static Properties getInstance() {
-        if (props == null) {
-            props = loadProperties();
-        }
-        return props;
+    public static void addListener(ConfigChangeListener listener) {
+        listeners.add(listener);
     }
 
-    private static @NotNull Properties loadProperties() {
-        Properties props = new Properties();
-        File propertiesFile;
-        ClassLoader loader = Thread.currentThread().getContextClassLoader();
-        try {
-           propertiesFile = new File(PROPERTIES_FOLDER);
-        } catch (NullPointerException e) {
-            System.err.println("No properties file found inside " + PROPERTIES_FOLDER + " folder. Please add all properties files under mentioned folder (create folder if doesn't exist).");
-            throw new NullPointerException();
+    public static void removeListener(ConfigChangeListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Loads a new snapshot, swaps it in and notifies the listeners when any value changed. <br>
+     * A snapshot is not swapped in when it has more validation problems than the current one or when it lacks a key
+     * of the current one (e.g. a half written or truncated file), so removing a key needs a restart.
+     */
+    public static synchronized void reload() {
+        ConfigSnapshot previous = snapshot;
+        ConfigSnapshot current = loadSnapshot();
+        if (current.getProblems().size() > previous.getProblems().size()) {
+            LOGGER.warn("Configuration not reloaded, [{}] new problems. Fix the files to apply the changes.",
+                    current.getProblems().size() - previous.getProblems().size());
+            return;
         }
-        try {
-            File[] listOfFiles = propertiesFile.listFiles();
-            if (listOfFiles == null) {
-                Assertions.fail("List of files is null.");
+        Set<String> droppedKeys = new TreeSet<>(previous.asMap().keySet());
+        droppedKeys.removeAll(current.asMap().keySet());
+        if (!droppedKeys.isEmpty()) {
+            LOGGER.warn("Configuration not reloaded, keys missing from the files: {}. Fix the files to apply the " +
+                    "changes, or restart to remove keys.", droppedKeys);
+            return;
+        }
+        Set<String> changedKeys = new TreeSet<>();
+        previous.asMap().forEach((key, value) -> {
+            if (!value.equals(current.get(key))) {
+                changedKeys.add(key);
             }
-            for (File file : listOfFiles) {
-                if (file.isFile() && file.getName().endsWith(PROPERTIES_EXT)) {
-                    props.load(new FileInputStream(propertiesFile + File.separator + file.getName()));
-                }
+        });
+        current.asMap().keySet().stream().filter(key -> previous.get(key) == null).forEach(changedKeys::add);
+        if (changedKeys.isEmpty()) {
+            return;
+        }
+        snapshot = current;
+        LOGGER.info("Configuration reloaded, changed keys: {}", changedKeys);
+        for (ConfigChangeListener listener : listeners) {
+            try {
+                listener.onChange(previous, current, changedKeys);
+            } catch (RuntimeException e) {
+                LOGGER.warn("Config change listener [{}] failed. Exception: {}", listener, e.getMessage());
             }
-        } catch (IOException e) {
-            System.err.println("Not able to load the property!!!");
         }
-        return props;
     }
 
-    private static @NotNull Properties loadProperties(String propertyFileName) {
-        Properties props = new Properties();
-        ClassLoader loader = Thread.currentThread().getContextClassLoader();
-        InputStream is = loader.getResourceAsStream(PROPERTIES_FOLDER + File.separator + propertyFileName + PROPERTIES_EXT);
-        try {
-            props.load(is);
-        } catch (NullPointerException e) {
-            System.err.println("'" + propertyFileName + PROPERTIES_EXT + "' file was not found. " + PROPERTIES_FOLDER + " folder. Please verify mentioned file should be present under 'properties' folder(create folder if it doesn't exist).");
-            throw new NullPointerException();
-        } catch (IOException e) {
-            System.err.println("Not able to load the property!!!");
-        }
-        return props;
+    private static ConfigSnapshot loadSnapshot() {
+        ConfigSnapshot snapshot = ConfigSnapshot.load(new File(PROPERTIES_FOLDER));
+        snapshot.getReport().forEach(line -> LOGGER.info("Config: {}", line));
+        snapshot.getProblems().forEach(problem -> LOGGER.warn("Config problem: {}", problem));
+        LOGGER.info("[ConfigKeys] is [{}], [ConfigProblems] is [{}]", snapshot.asMap().size(),
+                snapshot.getProblems().size());
+        return snapshot;
+    }
+
+    /**
+     * @return A copy of the configuration as Properties, changes to it are not seen by the other callers.
+     */
+    public static Properties getInstance() {
+        return snapshot.toProperties();
+    }
+
+    public static ConfigSnapshot getSnapshot() {
+        return snapshot;
     }
 
     public static String getAsString(String key) {
-        return getInstance().getProperty(key);
+        return snapshot.get(key);
     }
 
+    public static String getAsString(String key, String defaultValue) {
+        String value = snapshot.get(key);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
 
     public static boolean getAsBoolean(String key) {
-        return Boolean.parseBoolean(getInstance().getProperty(key));
+        return Boolean.parseBoolean(snapshot.get(key));
+    }
+
+    public static boolean getAsBoolean(String key, boolean defaultValue) {
+        String value = snapshot.get(key);
+        return value == null || value.isBlank() ? defaultValue : Boolean.parseBoolean(value.trim());
+    }
+
+    public static int getAsInt(String key, int defaultValue) {
+        return (int) getAsLong(key, defaultValue);
+    }
+
+    public static long getAsLong(String key, long defaultValue) {
+        String value = snapshot.get(key);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return Assertions.fail("Config [" + key + "] = [" + value + "] is not a whole number");
+        }
+    }
+
+    /**
+     * Reads a duration, either as a number in the given unit (e.g. EXPLICIT_WAIT = 20) or in ISO-8601 format (PT20S).
+     *
+     * @param key          The config key.
+     * @param unit         The unit of plain numbers.
+     * @param defaultValue Returned when the key is missing or blank.
+     * @return The duration.
+     */
+    public static Duration getAsDuration(String key, TemporalUnit unit, Duration defaultValue) {
+        String value = snapshot.get(key);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        String trimmedValue = value.trim();
+        try {
+            return trimmedValue.startsWith("P") || trimmedValue.startsWith("p") ? Duration.parse(trimmedValue)
+                    : Duration.of(Long.parseLong(trimmedValue), unit);
+        } catch (NumberFormatException | DateTimeParseException e) {
+            return Assertions.fail("Config [" + key + "] = [" + value + "] is not a duration");
+        }
+    }
+
+    /**
+     * @return The comma separated values of the key, trimmed, empty if the key is missing.
+     */
+    public static List<String> getAsList(String key) {
+        String value = snapshot.get(key);
+        if (value == null || value.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(value.split(",")).map(String::trim).filter(item -> !item.isEmpty()).toList();
     }
 }
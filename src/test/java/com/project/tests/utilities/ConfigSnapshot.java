@@ -0,0 +1,169 @@
+package com.project.tests.utilities;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable, flat view of the configuration, built once from: <br>
+ * 1. every *.properties file of the config folder (in file name order, later files override earlier ones) <br>
+ * 2. environment specific keys: KEY_&lt;Environment&gt; is also available as KEY, unless KEY is set explicitly <br>
+ * 3. system properties (-DKEY=value), which override the keys of the files and the documented run settings
+ * ({@link SystemVsConfigProp.SystemPropertyVariables}). Other JVM properties (java.*, os.*, user.*) are ignored <br>
+ * Lookups are plain reads of an unmodifiable map, safe from any thread without locking. <br>
+ * The snapshot also keeps a validation report of what was loaded and what looks wrong.
+ */
+public final class ConfigSnapshot {
+    private static final String PROPERTIES_EXT = ".properties";
+    private static final List<String> REQUIRED_KEYS = List.of("Browser", "Environment");
+    private static final List<String> INT_KEYS = List.of("EXPLICIT_WAIT", "IMPLICIT_WAIT", "FLUENT_WAIT",
+            "POLLING_INTERVAL", "page_Load_Timeout", "PAGE_READY_TIMEOUT", "NETWORK_IDLE_MILLIS", "DRIVER_POOL_SIZE",
+            "DRIVER_POOL_WARM_UP", "DRIVER_POOL_MAX_REUSE", "DRIVER_POOL_MAX_IDLE", "DRIVER_POOL_LEASE_TIMEOUT",
+            "SCREENSHOT_THREADS", "SCREENSHOT_QUEUE_SIZE", "SCREENSHOT_DEDUP_THRESHOLD",
+            "SCREENSHOT_DEDUP_MAX_CHANGED_PIXELS", "EXTENT_FLUSH_INTERVAL");
+    private static final List<String> BOOLEAN_KEYS = List.of("isExtentReportRequired", "HIGHLIGHT_ELEMENTS",
+            "LOCATOR_CACHE_ENABLED", "SLEEP_AUDIT", "SCENARIO_LOG_FILES", "SCENARIO_LOG_COMPRESS", "DRIVER_POOL_ENABLED",
+            "BROWSER_RESOURCE_REPORT", "PAGE_READY_FRAMEWORK_CHECK", "RUN_EVENTS_ENABLED", "CONFIG_HOT_RELOAD",
+            "RUNTIME_PROPERTIES_READ_THROUGH", "SCREENSHOT_TIMESTAMP", "SCREENSHOT_DEDUP",
+            "EXTENT_JOURNAL", "sendEmail");
+    private static final Set<String> SYSTEM_PROPERTY_KEYS = Arrays.stream(
+            SystemVsConfigProp.SystemPropertyVariables.values()).map(Enum::name).collect(Collectors.toUnmodifiableSet());
+
+    private final Map<String, String> values;
+    private final List<String> report;
+    private final List<String> problems;
+
+    private ConfigSnapshot(Map<String, String> values, List<String> report, List<String> problems) {
+        this.values = Collections.unmodifiableMap(values);
+        this.report = List.copyOf(report);
+        this.problems = List.copyOf(problems);
+    }
+
+    /**
+     * Loads the property files of the folder and merges them with the system properties.
+     *
+     * @param folder The folder with the *.properties files.
+     * @return The snapshot, never null. Unreadable files are listed in the validation problems.
+     */
+    public static ConfigSnapshot load(File folder) {
+        Map<String, String> values = new HashMap<>();
+        Map<String, String> keySources = new HashMap<>();
+        List<String> report = new ArrayList<>();
+        List<String> problems = new ArrayList<>();
+
+        File[] files = folder.listFiles((directory, name) -> name.endsWith(PROPERTIES_EXT));
+        if (files == null || files.length == 0) {
+            problems.add("No " + PROPERTIES_EXT + " file found in [" + folder + "]");
+            files = new File[0];
+        }
+        Arrays.sort(files, Comparator.comparing(File::getName));
+        for (File file : files) {
+            Properties properties = new Properties();
+            try (InputStream inputStream = Files.newInputStream(file.toPath())) {
+                properties.load(inputStream);
+            } catch (IOException e) {
+                problems.add("Failed to read [" + file.getName() + "]: " + e.getMessage());
+                continue;
+            }
+            for (String key : properties.stringPropertyNames()) {
+                String previousSource = keySources.put(key, file.getName());
+                if (previousSource != null && !previousSource.equals(file.getName())) {
+                    problems.add("[" + key + "] from [" + previousSource + "] is overridden by [" + file.getName() + "]");
+                }
+                values.put(key, properties.getProperty(key).trim());
+            }
+            report.add("Loaded [" + properties.size() + "] keys from [" + file.getName() + "]");
+        }
+
+        Properties systemProperties = System.getProperties();
+        String environment = systemProperties.getProperty("Environment", values.get("Environment"));
+        int environmentKeys = 0;
+        if (environment != null && !environment.isBlank()) {
+            String suffix = "_" + environment.trim().toLowerCase(Locale.ROOT);
+            Map<String, String> environmentValues = new HashMap<>();
+            for (Map.Entry<String, String> entry : values.entrySet()) {
+                String key = entry.getKey();
+                if (key.toLowerCase(Locale.ROOT).endsWith(suffix) && key.length() > suffix.length()) {
+                    environmentValues.put(key.substring(0, key.length() - suffix.length()), entry.getValue());
+                }
+            }
+            for (Map.Entry<String, String> entry : environmentValues.entrySet()) {
+                if (values.putIfAbsent(entry.getKey(), entry.getValue()) == null) {
+                    environmentKeys++;
+                }
+            }
+        }
+        int overriddenKeys = 0;
+        int systemKeys = 0;
+        for (String key : systemProperties.stringPropertyNames()) {
+            if (values.containsKey(key)) {
+                values.put(key, systemProperties.getProperty(key));
+                overriddenKeys++;
+            } else if (SYSTEM_PROPERTY_KEYS.contains(key)) {
+                values.put(key, systemProperties.getProperty(key));
+                systemKeys++;
+            }
+        }
+        report.add("Derived [" + environmentKeys + "] keys for environment [" + environment + "]");
+        report.add("Overridden [" + overriddenKeys + "] file keys with system properties");
+        report.add("Added [" + systemKeys + "] run settings from system properties");
+
+        for (String key : REQUIRED_KEYS) {
+            String value = values.get(key);
+            if (value == null || value.isBlank()) {
+                problems.add("Required key [" + key + "] is missing");
+            }
+        }
+        for (String key : INT_KEYS) {
+            String value = values.get(key);
+            if (value != null && !value.isBlank() && !value.trim().matches("-?\\d+")) {
+                problems.add("[" + key + "] = [" + value + "] is not a whole number");
+            }
+        }
+        for (String key : BOOLEAN_KEYS) {
+            String value = values.get(key);
+            if (value != null && !value.trim().equalsIgnoreCase("true") && !value.trim().equalsIgnoreCase("false")) {
+                problems.add("[" + key + "] = [" + value + "] is neither true nor false");
+            }
+        }
+        return new ConfigSnapshot(values, report, problems);
+    }
+
+    public String get(String key) {
+        return values.get(key);
+    }
+
+    public boolean getAsBoolean(String key) {
+        return Boolean.parseBoolean(values.get(key));
+    }
+
+    public Map<String, String> asMap() {
+        return values;
+    }
+
+    public List<String> getReport() {
+        return report;
+    }
+
+    public List<String> getProblems() {
+        return problems;
+    }
+
+    public Properties toProperties() {
+        Properties properties = new Properties();
+        properties.putAll(values);
+        return properties;
+    }
+}
@@ -0,0 +1,80 @@
+package com.project.tests.utilities;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+
+/**
+ * Watches the config folder with a NIO WatchService and asks ConfigProvider to reload when a *.properties file
+ * changes. Runs on a single daemon thread, started by ConfigProvider when CONFIG_HOT_RELOAD is true. <br>
+ * Editors often write a file in several steps, so events are collected for DEBOUNCE_MILLIS before reloading.
+ */
+final class ConfigWatcher implements Runnable {
+    private static final Logger LOGGER = LogManager.getLogger(ConfigWatcher.class);
+    private static final long DEBOUNCE_MILLIS = 250;
+
+    private final Path folder;
+    private final WatchService watchService;
+
+    private ConfigWatcher(Path folder, WatchService watchService) {
+        this.folder = folder;
+        this.watchService = watchService;
+    }
+
+    static void start(Path folder) {
+        try {
+            WatchService watchService = FileSystems.getDefault().newWatchService();
+            folder.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY,
+                    StandardWatchEventKinds.ENTRY_DELETE);
+            Thread thread = new Thread(new ConfigWatcher(folder, watchService), "config-watcher");
+            thread.setDaemon(true);
+            thread.start();
+            LOGGER.info("Watching [{}] for configuration changes", folder);
+        } catch (IOException e) {
+            LOGGER.warn("Failed to watch [{}], configuration changes need a restart. Exception: {}", folder,
+                    e.getMessage());
+        }
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey key = watchService.take();
+                boolean propertiesChanged = drain(key);
+                Thread.sleep(DEBOUNCE_MILLIS);
+                WatchKey nextKey;
+                while ((nextKey = watchService.poll()) != null) {
+                    propertiesChanged |= drain(nextKey);
+                }
+                if (propertiesChanged) {
+                    ConfigProvider.reload();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            LOGGER.info("Stopped watching [{}]", folder);
+        }
+    }
+
+    private static boolean drain(WatchKey key) {
+        boolean propertiesChanged = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW
+                    || String.valueOf(event.context()).endsWith(".properties")) {
+                propertiesChanged = true;
+            }
+        }
+        key.reset();
+        return propertiesChanged;
+    }
+}
@@ -8,12 +8,14 @@ import org.openqa.selenium.edge.EdgeDriver;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.remote.RemoteWebDriver;
 
+import java.io.File;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
 
 public class Driver {
     private Driver() {
@@ -29,22 +31,45 @@ public class Driver {
 
     public static void openBrowser(String browser, String scenarioName, String environment) {
         try {
-            switch (browser) {
-                case ("FirefoxOnLocal") -> threadDriver.set(setFireFoxDriverLocal());
-                case ("ChromeOnLocal") -> threadDriver.set(setChromeDriverLocal());
-                case ("EdgeOnLocal") -> threadDriver.set(setEdgeDriverLocal());
-                case ("ChromeOnSauce") -> threadDriver.set(setChromeDriverSauce(browser, scenarioName, environment));
-                default -> Assertions.fail("Invalid browser [" + browser + "] is selected");
+            long start = System.nanoTime();
+            boolean pooled = DriverPool.isPoolable(browser);
+            if (pooled) {
+                threadDriver.set(DriverPool.lease(browser, () -> startBrowser(browser, scenarioName, environment)));
+            } else {
+                threadDriver.set(startBrowser(browser, scenarioName, environment));
             }
             sessionId.set(threadDriver.get().getSessionId().toString());
-            threadDriver.get().manage().window().maximize();
-            threadDriver.get().manage().deleteAllCookies();
-            threadDriver.get().manage().timeouts().implicitlyWait(Duration.ofSeconds(10));
+            RunEvents.emit("driver_start", "browser", browser, "sessionId", sessionId.get(), "pooled", pooled,
+                    "durationMs", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
         } catch (Exception e) {
             Assertions.fail(e.getMessage());
         }
     }
 
+    private static RemoteWebDriver startBrowser(String browser, String scenarioName, String environment) {
+        RemoteWebDriver driver;
+        try {
+            driver = switch (browser) {
+                case ("FirefoxOnLocal") -> setFireFoxDriverLocal();
+                case ("ChromeOnLocal") -> setChromeDriverLocal();
+                case ("ChromeHeadlessLean") -> setChromeHeadlessLeanDriverLocal();
+                case ("EdgeOnLocal") -> setEdgeDriverLocal();
+                case ("ChromeOnSauce") -> setChromeDriverSauce(browser, scenarioName, environment);
+                default -> Assertions.fail("Invalid browser [" + browser + "] is selected");
+            };
+        } catch (URISyntaxException | MalformedURLException e) {
+            return Assertions.fail(e.getMessage());
+        }
+        if (!browser.equals("ChromeHeadlessLean")) {
+            driver.manage().window().maximize();
+        }
+        driver.manage().deleteAllCookies();
+        // IMPORTANT: keep the implicit wait at 0, WaitEngine polls explicitly and the two waits would stack up
+        driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+        PageReadiness.install(driver);
+        return driver;
+    }
+
     private static RemoteWebDriver setChromeDriverLocal() {
         ChromeOptions options = new ChromeOptions();
 //        options.addArguments("--headless");
@@ -57,6 +82,30 @@ public class Driver {
         return new ChromeDriver(options);
     }
 
+    // IMPORTANT: low-footprint profile for parallel runs, fixed viewport instead of maximize()
+    private static RemoteWebDriver setChromeHeadlessLeanDriverLocal() {
+        String windowSize = ConfigProvider.getAsString("LEAN_WINDOW_SIZE");
+        String diskCacheDir = ConfigProvider.getAsString("LEAN_DISK_CACHE_DIR");
+        ChromeOptions options = new ChromeOptions();
+        options.addArguments("--headless=new");
+        options.addArguments("--window-size=" + (windowSize == null ? "1920,1080" : windowSize));
+        options.addArguments("--disable-gpu");
+        options.addArguments("--disable-extensions");
+        options.addArguments("--disable-background-networking");
+        options.addArguments("--blink-settings=imagesEnabled=false");
+        options.addArguments("--disk-cache-dir=" + System.getProperty("user.dir") + File.separator +
+                (diskCacheDir == null ? "target/chrome-cache" : diskCacheDir));
+        options.addArguments("--disable-dev-shm-usage");
+        options.addArguments("--mute-audio");
+        options.addArguments("--no-sandbox");
+        options.addArguments("--use-fake-ui-for-media-stream=1");
+        HashMap<String, Object> chromePreferences = new HashMap<>();
+        chromePreferences.put("profile.managed_default_content_settings.images", 2);
+        options.setExperimentalOption("prefs", chromePreferences);
+        options.setExperimentalOption("excludeSwitches", Collections.singletonList("enable-automation"));
+        return new ChromeDriver(options);
+    }
+
     private static RemoteWebDriver setFireFoxDriverLocal() {
         return new FirefoxDriver();
     }
@@ -67,7 +116,26 @@ public class Driver {
 
     public static void tearDown() {
         if (getDriver() != null) {
-            getDriver().close();
+            long start = System.nanoTime();
+            boolean pooled = DriverPool.isLeased(getDriver());
+            if (pooled) {
+                DriverPool.release(getDriver());
+            } else {
+                getDriver().close();
+            }
+            RunEvents.emit("driver_stop", "sessionId", sessionId.get(), "pooled", pooled, "discarded", false,
+                    "durationMs", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            threadDriver.remove();
+        }
+    }
+
+    // IMPORTANT: failed scenarios keep their browser open for investigation, unless the browser came from the pool
+    public static void discardPooledDriver() {
+        if (DriverPool.isLeased(getDriver())) {
+            long start = System.nanoTime();
+            DriverPool.discard(getDriver());
+            RunEvents.emit("driver_stop", "sessionId", sessionId.get(), "pooled", true, "discarded", true,
+                    "durationMs", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
             threadDriver.remove();
         }
     }
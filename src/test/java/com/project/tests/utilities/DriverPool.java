@@ -0,0 +1,357 @@
+package com.project.tests.utilities;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.Assertions;
+import org.openqa.selenium.chromium.ChromiumDriver;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Bounded pool of pre-started browser sessions, keyed by browser type (the value of the Browser property).
+ * Scenarios lease a session in @Before and return it in @After, instead of starting a new browser every time. <br>
+ * - Returned Chromium sessions are reset (extra windows, cookies, the storage of every origin in the navigation
+ * history of every window, about:blank) before they are reused. Other browsers cannot enumerate the origins they
+ * visited, so their sessions are quit instead of reused <br>
+ * - Idle sessions are health checked on lease, crashed or stale sessions are discarded <br>
+ * - A session is quit once it has been leased DRIVER_POOL_MAX_REUSE times <br>
+ * - Every live session (leased, idle or warming up) holds one of the DRIVER_POOL_SIZE permits of its browser type
+ * until it is quit <br>
+ * Configured in Config.properties with DRIVER_POOL_ENABLED, DRIVER_POOL_SIZE, DRIVER_POOL_WARM_UP,
+ * DRIVER_POOL_MAX_REUSE, DRIVER_POOL_MAX_IDLE and DRIVER_POOL_LEASE_TIMEOUT.
+ */
+public final class DriverPool {
+    private static final Logger LOGGER = LogManager.getLogger(DriverPool.class);
+    private static final Map<String, BrowserPool> pools = new ConcurrentHashMap<>();
+    private static final Map<String, PooledSession> leasedSessions = new ConcurrentHashMap<>();
+    private static final long LEASE_POLL_MILLIS = 250;
+    private static final ExecutorService warmUpExecutor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "driver-pool-warm-up");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(DriverPool::shutdown, "driver-pool-shutdown"));
+        ConfigProvider.addListener((previous, current, changedKeys) -> {
+            if (changedKeys.contains("DRIVER_POOL_SIZE")) {
+                pools.values().forEach(pool -> pool.resize(ConfigProvider.getAsInt("DRIVER_POOL_SIZE", 30)));
+            }
+        });
+    }
+
+    private DriverPool() {
+    }
+
+    public static boolean isEnabled() {
+        return ConfigProvider.getAsBoolean("DRIVER_POOL_ENABLED");
+    }
+
+    // IMPORTANT: Sauce sessions are named after the scenario and billed per session, they are never pooled
+    public static boolean isPoolable(String browser) {
+        return isEnabled() && !browser.endsWith("OnSauce");
+    }
+
+    public static boolean isLeased(RemoteWebDriver driver) {
+        return driver != null && driver.getSessionId() != null
+                && leasedSessions.containsKey(driver.getSessionId().toString());
+    }
+
+    /**
+     * Leases a healthy session for the given browser type, starting a new one when no idle session is available.
+     * The first lease for a browser type also starts DRIVER_POOL_WARM_UP sessions in the background.
+     *
+     * @param browser The browser type, used as the pool key.
+     * @param factory Creates and configures a new session when the pool has no idle session.
+     * @return A session that is reserved for the calling scenario until it is released or discarded.
+     */
+    public static RemoteWebDriver lease(String browser, Supplier<RemoteWebDriver> factory) {
+        BrowserPool pool = pools.computeIfAbsent(browser, key -> new BrowserPool(key, factory));
+        int leaseTimeout = ConfigProvider.getAsInt("DRIVER_POOL_LEASE_TIMEOUT", 120);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(leaseTimeout);
+        PooledSession session = null;
+        try {
+            while (session == null) {
+                session = pool.pollHealthy();
+                if (session == null && pool.permits.tryAcquire()) {
+                    session = pool.start(factory);
+                    LOGGER.info("Started new [{}] session [{}] for the driver pool", browser, session.sessionId);
+                } else if (session == null) {
+                    if (System.nanoTime() - deadline > 0) {
+                        Assertions.fail("No [" + browser + "] session became available in the driver pool within " +
+                                "[" + leaseTimeout + "] seconds.");
+                    }
+                    // IMPORTANT: short polls, a permit freed by a discarded session does not show up in the idle queue
+                    session = pool.idle.pollFirst(LEASE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                    if (session != null && !isHealthy(session)) {
+                        pool.quit(session);
+                        session = null;
+                    }
+                } else {
+                    LOGGER.info("Reusing [{}] session [{}] from the driver pool (lease [{}])",
+                            browser, session.sessionId, session.leases + 1);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            Assertions.fail("Interrupted while waiting for a [" + browser + "] session from the driver pool.");
+        }
+        session.leases++;
+        leasedSessions.put(session.sessionId, session);
+        return session.driver;
+    }
+
+    /**
+     * Resets the session and returns it to the pool, or quits it when it reached DRIVER_POOL_MAX_REUSE
+     * or the reset failed.
+     *
+     * @param driver The leased session.
+     */
+    public static void release(RemoteWebDriver driver) {
+        PooledSession session = leasedSessions.remove(driver.getSessionId().toString());
+        if (session == null) {
+            LOGGER.warn("Session [{}] was not leased from the driver pool, quitting it", driver.getSessionId());
+            quitQuietly(driver);
+            return;
+        }
+        BrowserPool pool = pools.get(session.browser);
+        if (session.leases >= ConfigProvider.getAsInt("DRIVER_POOL_MAX_REUSE", 20)) {
+            LOGGER.info("Session [{}] reached the max reuse count [{}], quitting it",
+                    session.sessionId, session.leases);
+            pool.quit(session);
+        } else if (!reset(session)) {
+            pool.quit(session);
+        } else {
+            session.lastReleased = System.nanoTime();
+            pool.idle.offerFirst(session);
+        }
+    }
+
+    /**
+     * Quits a leased session without returning it to the pool, e.g. after a failed scenario.
+     *
+     * @param driver The leased session.
+     */
+    public static void discard(RemoteWebDriver driver) {
+        PooledSession session = leasedSessions.remove(driver.getSessionId().toString());
+        if (session != null) {
+            pools.get(session.browser).quit(session);
+        } else {
+            quitQuietly(driver);
+        }
+    }
+
+    public static void shutdown() {
+        for (BrowserPool pool : pools.values()) {
+            PooledSession session;
+            while ((session = pool.idle.pollFirst()) != null) {
+                pool.quit(session);
+            }
+        }
+        warmUpExecutor.shutdownNow();
+    }
+
+    private static boolean reset(PooledSession session) {
+        RemoteWebDriver driver = session.driver;
+        if (!(driver instanceof ChromiumDriver chromiumDriver)) {
+            // IMPORTANT: only the storage of the current origin could be cleared, the next scenario gets a new browser
+            return false;
+        }
+        try {
+            Set<String> visitedOrigins = new HashSet<>();
+            List<String> handles = new ArrayList<>(driver.getWindowHandles());
+            for (int i = handles.size() - 1; i >= 0; i--) {
+                driver.switchTo().window(handles.get(i));
+                collectOrigins(chromiumDriver, visitedOrigins);
+                if (i > 0) {
+                    driver.close();
+                }
+            }
+            for (String origin : visitedOrigins) {
+                chromiumDriver.executeCdpCommand("Storage.clearDataForOrigin",
+                        Map.of("origin", origin, "storageTypes", "all"));
+            }
+            // IMPORTANT: deleteAllCookies() only clears the current domain, CDP clears every domain
+            chromiumDriver.executeCdpCommand("Network.clearBrowserCookies", Map.of());
+            driver.get("about:blank");
+            return true;
+        } catch (Exception e) {
+            LOGGER.warn("Failed to reset session [{}], discarding it. Exception: {}",
+                    driver.getSessionId(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Adds the origins of the navigation history and of the frames of the current window.
+     */
+    @SuppressWarnings("unchecked")
+    private static void collectOrigins(ChromiumDriver driver, Set<String> origins) {
+        Map<String, Object> history = driver.executeCdpCommand("Page.getNavigationHistory", Map.of());
+        for (Map<String, Object> entry : (List<Map<String, Object>>) history.getOrDefault("entries", List.of())) {
+            addOrigin(String.valueOf(entry.get("url")), origins);
+        }
+        Map<String, Object> frameTree = driver.executeCdpCommand("Page.getFrameTree", Map.of());
+        collectFrameOrigins((Map<String, Object>) frameTree.get("frameTree"), origins);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void collectFrameOrigins(Map<String, Object> frameTree, Set<String> origins) {
+        if (frameTree == null) {
+            return;
+        }
+        Map<String, Object> frame = (Map<String, Object>) frameTree.get("frame");
+        if (frame != null) {
+            addOrigin(String.valueOf(frame.get("url")), origins);
+        }
+        for (Map<String, Object> childFrame : (List<Map<String, Object>>) frameTree.getOrDefault("childFrames",
+                List.of())) {
+            collectFrameOrigins(childFrame, origins);
+        }
+    }
+
+    private static void addOrigin(String url, Set<String> origins) {
+        try {
+            URI uri = URI.create(url);
+            // about:, data: and chrome: pages have no storage of their own
+            if (("http".equals(uri.getScheme()) || "https".equals(uri.getScheme())) && uri.getHost() != null) {
+                origins.add(uri.getScheme() + "://" + uri.getHost() + (uri.getPort() < 0 ? "" : ":" + uri.getPort()));
+            }
+        } catch (IllegalArgumentException e) {
+            LOGGER.debug("Skipping the origin of [{}]: {}", url, e.getMessage());
+        }
+    }
+
+    private static boolean isHealthy(PooledSession session) {
+        long idleSeconds = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - session.lastReleased);
+        if (idleSeconds > ConfigProvider.getAsInt("DRIVER_POOL_MAX_IDLE", 300)) {
+            LOGGER.info("Session [{}] was idle for [{}] seconds, discarding it", session.sessionId, idleSeconds);
+            return false;
+        }
+        try {
+            Set<String> handles = session.driver.getWindowHandles();
+            return !handles.isEmpty() && session.driver.executeScript("return 1;") != null;
+        } catch (Exception e) {
+            LOGGER.warn("Session [{}] failed the health check, discarding it. Exception: {}",
+                    session.sessionId, e.getMessage());
+            return false;
+        }
+    }
+
+    private static void quitQuietly(RemoteWebDriver driver) {
+        try {
+            driver.quit();
+        } catch (Exception e) {
+            LOGGER.warn("Failed to quit session [{}]. Exception: {}", driver.getSessionId(), e.getMessage());
+        }
+    }
+
+    private static final class BrowserPool {
+        private final String browser;
+        private final BlockingDeque<PooledSession> idle = new LinkedBlockingDeque<>();
+        private int size = ConfigProvider.getAsInt("DRIVER_POOL_SIZE", 30);
+        private final ResizableSemaphore permits = new ResizableSemaphore(size);
+
+        private BrowserPool(String browser, Supplier<RemoteWebDriver> factory) {
+            this.browser = browser;
+            int warmUp = ConfigProvider.getAsInt("DRIVER_POOL_WARM_UP", 0);
+            for (int i = 0; i < warmUp; i++) {
+                // IMPORTANT: a warm-up session counts against DRIVER_POOL_SIZE like a leased one
+                if (!permits.tryAcquire()) {
+                    break;
+                }
+                warmUpExecutor.submit(() -> {
+                    try {
+                        PooledSession session = start(factory);
+                        idle.offerLast(session);
+                        LOGGER.info("Warmed up [{}] session [{}]", browser, session.sessionId);
+                    } catch (Exception e) {
+                        LOGGER.warn("Failed to warm up a [{}] session. Exception: {}", browser, e.getMessage());
+                    }
+                });
+            }
+        }
+
+        /**
+         * Starts a session with a permit the caller already acquired, the permit is released if it fails to start.
+         */
+        private PooledSession start(Supplier<RemoteWebDriver> factory) {
+            try {
+                return new PooledSession(browser, factory.get());
+            } catch (RuntimeException | Error e) {
+                permits.release();
+                throw e;
+            }
+        }
+
+        /**
+         * Changes DRIVER_POOL_SIZE on a reload. A smaller size does not quit live sessions, new sessions wait until
+         * enough of them are quit.
+         */
+        private synchronized void resize(int newSize) {
+            if (newSize > size) {
+                permits.release(newSize - size);
+            } else if (newSize < size) {
+                permits.reducePermits(size - newSize);
+            }
+            LOGGER.info("Resized the [{}] driver pool from [{}] to [{}] sessions", browser, size, newSize);
+            size = newSize;
+        }
+
+        private void quit(PooledSession session) {
+            quitQuietly(session.driver);
+            permits.release();
+        }
+
+        private PooledSession pollHealthy() {
+            PooledSession session;
+            while ((session = idle.pollFirst()) != null) {
+                if (isHealthy(session)) {
+                    return session;
+                }
+                quit(session);
+            }
+            return null;
+        }
+    }
+
+    // IMPORTANT: Semaphore.reducePermits is protected, it may take the available permits below 0
+    private static final class ResizableSemaphore extends Semaphore {
+        private ResizableSemaphore(int permits) {
+            super(permits, true);
+        }
+
+        @Override
+        protected void reducePermits(int reduction) {
+            super.reducePermits(reduction);
+        }
+    }
+
+    private static final class PooledSession {
+        private final String browser;
+        private final RemoteWebDriver driver;
+        private final String sessionId;
+        private int leases;
+        private long lastReleased = System.nanoTime();
+
+        private PooledSession(String browser, RemoteWebDriver driver) {
+            this.browser = browser;
+            this.driver = driver;
+            this.sessionId = driver.getSessionId().toString();
+        }
+    }
+}
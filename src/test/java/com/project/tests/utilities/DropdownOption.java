@@ -0,0 +1,8 @@
+package com.project.tests.utilities;
+
+/**
+ * State of one option of a select element, read by SeleniumUtils in a single script call for the whole dropdown.
+ * text is the option's text with whitespace collapsed and trimmed, like WebElement.getText() on the option.
+ */
+public record DropdownOption(String value, String text, boolean disabled, boolean selected) {
+}
@@ -0,0 +1,55 @@
+package com.project.tests.utilities;
+
+import org.openqa.selenium.Rectangle;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Immutable state of a WebElement read in a single executeScript round trip by SeleniumUtils.getElementSnapshot.
+ * Assertions can run against it without any further remote calls. <br>
+ * - text is the element's innerText (trimmed), similar to WebElement.getText() <br>
+ * - attributes follow WebElement.getAttribute(): the DOM property when it is a primitive, the attribute otherwise <br>
+ * - cssValues are computed styles, similar to WebElement.getCssValue() <br>
+ * - rect is relative to the document, like WebElement.getRect()
+ */
+public record ElementSnapshot(String tagName, String text, Map<String, String> attributes,
+                              Map<String, String> cssValues, Rectangle rect,
+                              boolean displayed, boolean enabled, boolean selected) {
+
+    public ElementSnapshot {
+        attributes = Collections.unmodifiableMap(new LinkedHashMap<>(attributes));
+        cssValues = Collections.unmodifiableMap(new LinkedHashMap<>(cssValues));
+    }
+
+    public String getAttribute(String name) {
+        return attributes.get(name);
+    }
+
+    public String getCssValue(String propertyName) {
+        return cssValues.get(propertyName);
+    }
+
+    public int getX() {
+        return rect.getX();
+    }
+
+    public int getY() {
+        return rect.getY();
+    }
+
+    /**
+     * Converts a computed color such as "rgba(255, 0, 0, 1)" or "rgb(255, 0, 0)" to hexadecimal format (#RRGGBB).
+     *
+     * @param color The computed color.
+     * @return The color in hexadecimal format.
+     */
+    public static String toHexColor(String color) {
+        String[] rgbValues = color.replaceAll("rgba?\\(", "").replace(")", "").split(",");
+        int red = Integer.parseInt(rgbValues[0].trim());
+        int green = Integer.parseInt(rgbValues[1].trim());
+        int blue = Integer.parseInt(rgbValues[2].trim());
+        return String.format("#%02x%02x%02x", red, green, blue);
+    }
+}
@@ -0,0 +1,66 @@
+package com.project.tests.utilities;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves the run settings (Environment, Browser, tagToRun, Database) and every &lt;KEY&gt;_&lt;Environment&gt;
+ * binding (e.g. GOOGLEURL_CloudStage as GOOGLEURL) once per run, from the configuration snapshot. <br>
+ * The result is an immutable map, so lookups are thread-safe and never touch System properties.
+ */
+public final class EnvironmentResolver {
+    private static final Logger LOGGER = LogManager.getLogger(EnvironmentResolver.class);
+    private static final String ENVIRONMENT = "Environment";
+    private static final Map<String, String> bindings = resolve();
+    private static final Set<String> loggedKeys = ConcurrentHashMap.newKeySet();
+
+    private EnvironmentResolver() {
+    }
+
+    private static Map<String, String> resolve() {
+        Map<String, String> config = ConfigProvider.getSnapshot().asMap();
+        Map<String, String> resolved = new HashMap<>();
+        String environment = config.get(ENVIRONMENT);
+        for (String key : new String[]{ENVIRONMENT, "Browser", "tagToRun"}) {
+            if (config.get(key) != null) {
+                resolved.put(key, config.get(key));
+            }
+        }
+        if (environment != null) {
+            resolved.put("Database", environment);
+            String suffix = "_" + environment.toLowerCase(Locale.ROOT);
+            config.forEach((key, value) -> {
+                if (key.toLowerCase(Locale.ROOT).endsWith(suffix) && key.length() > suffix.length()) {
+                    String baseKey = key.substring(0, key.length() - suffix.length());
+                    // IMPORTANT: the snapshot already prefers -DKEY and an explicit KEY over KEY_<Environment>
+                    resolved.put(baseKey, config.getOrDefault(baseKey, value));
+                }
+            });
+        }
+        LOGGER.info("Resolved [{}] settings for environment [{}]", resolved.size(), environment);
+        return Map.copyOf(resolved);
+    }
+
+    public static String getEnvironment() {
+        return bindings.get(ENVIRONMENT);
+    }
+
+    /**
+     * @param key A run setting or the name of an environment specific key without its _&lt;Environment&gt; suffix.
+     *            Other keys are read from the configuration as they are (e.g. SAUCE_USERNAME).
+     * @return The resolved value, or null if the key has no binding for the current environment.
+     */
+    public static String get(String key) {
+        String value = bindings.containsKey(key) ? bindings.get(key) : ConfigProvider.getAsString(key);
+        if (value != null && loggedKeys.add(key)) {
+            LOGGER.info("Value for property [{}] is [{}]", key, value);
+        }
+        return value;
+    }
+}
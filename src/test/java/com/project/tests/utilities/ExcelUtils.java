@@ -10,7 +10,6 @@ import java.io.*;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
-import java.util.Map;
 
 public class ExcelUtils {
 
@@ -18,8 +17,6 @@ public class ExcelUtils {
     private static Sheet excelWSheet;
     private static Workbook workbook;
     ArrayList<String> xlHeaderList = new ArrayList<>();
-    ArrayList<String> tdTempValueList = new ArrayList<>();
-    ArrayList<String> tdValueList = new ArrayList<>();
     FileInputStream file;
     String key = "";
     Row row;
@@ -43,67 +40,9 @@ public class ExcelUtils {
     }
 
     //ReadTestData ---> readExcelRowData
-    //This method is used to read the Excel Row with Respect to RowFlag
+    //This method is used to read the Excel Row with Respect to RowFlag, from the TestDataRegistry index
     public HashMap<String, String> readExcelRowData(String filePath, String sheetName, String rowFlag) {
-        HashMap<String, String> excelRowData = new HashMap<>();
-        try {
-            excelWSheet = readWorkSheet(filePath, sheetName);
-            xlHeaderList = readExcelHeaderList(filePath, sheetName);
-            int flagRowNum = getRowNumForRowFlag(filePath, sheetName, rowFlag);
-            row = excelWSheet.getRow(flagRowNum);
-            if (row.getRowNum() == flagRowNum) {
-                Iterator<Cell> cellIterator = row.cellIterator();
-                while (cellIterator.hasNext()) {
-                    Cell cell = cellIterator.next();
-                    cell.setCellType(CellType.STRING);
-                    switch (cell.getCellType()) {
-                        case NUMERIC:
-                            Double a = cell.getNumericCellValue();
-                            key = a.toString();
-                            break;
-                        case STRING:
-                            key = cell.getStringCellValue();
-                            break;
-                    }
-                    tdTempValueList.add(key);
-                }
-            }
-            for (int i = 0; i < tdTempValueList.size(); i++) {
-                String s2 = tdTempValueList.get(i);
-                if (s2 != null) {
-                    s2 = s2.contains(".0") ? s2.replace(".0", "") : s2;
-                }
-                tdValueList.add(s2);
-            }
-            if (xlHeaderList.size() == tdValueList.size()) {
-                for (int i = 0; i < xlHeaderList.size(); i++) {
-                    excelRowData.put(xlHeaderList.get(i), tdValueList.get(i));
-                }
-                Iterator iter = excelRowData.entrySet().iterator();
-                while (iter.hasNext()) {
-                    Map.Entry or = (Map.Entry) iter.next();
-                }
-            } else {
-                print("Column count is not equal for header and data. " + "Header contains: " + xlHeaderList.size() + " elements and column contains: " + tdValueList.size() + " elements");
-
-            }
-        } catch (IOException e) {
-            excelRowData = null;
-            print("Exception in 'readExcelRowData' method: " + e);
-            e.printStackTrace();
-        } catch (InvalidFormatException e) {
-            e.printStackTrace();
-        } finally {
-            try {
-                tdValueList.clear();
-                tdTempValueList.clear();
-                xlHeaderList.clear();
-                file.close();
-            } catch (IOException e) {
-                print("Exception trying to close the file in [readExcelRowData] method: " + e);
-            }
-        }
-        return excelRowData;
+        return new HashMap<>(TestDataRegistry.getRow(filePath, sheetName, rowFlag).asMap());
     }
 
     //This Method is used to get Header list(Row zero records in the sheet)
@@ -0,0 +1,206 @@
+package com.project.tests.utilities;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Opt-in, per-session cache of resolved WebElements for locators that page objects mark as stable. <br>
+ * - Enabled with LOCATOR_CACHE_ENABLED in Config.properties, locators opt in with {@link #stable(By)}, which wraps
+ * them in a {@link StableBy} <br>
+ * - A hit costs no round trip, a miss resolves the element through WaitEngine as usual <br>
+ * - An injected MutationObserver counts node removals, after every action the next hit checks that counter
+ * and the URL in one script call and clears the cache when either changed <br>
+ * - Navigation, window and frame switches in SeleniumUtils clear the cache, a stale element clears it as well <br>
+ * Hits, misses, validations and invalidations are logged per scenario and for the whole run.
+ */
+public final class LocatorCache {
+    private static final Logger LOGGER = LogManager.getLogger(LocatorCache.class);
+    private static final ThreadLocal<SessionCache> sessionCache = ThreadLocal.withInitial(SessionCache::new);
+    private static final LongAdder totalHits = new LongAdder();
+    private static final LongAdder totalMisses = new LongAdder();
+    private static final LongAdder totalValidations = new LongAdder();
+    private static final LongAdder totalInvalidations = new LongAdder();
+
+    private static final String OBSERVER_SCRIPT = """
+            if (!window.__locatorCacheObserver) {
+                window.__locatorCacheGeneration = 0;
+                window.__locatorCacheObserver = new MutationObserver(function (mutations) {
+                    for (var i = 0; i < mutations.length; i++) {
+                        if (mutations[i].removedNodes.length > 0) {
+                            window.__locatorCacheGeneration++;
+                            return;
+                        }
+                    }
+                });
+                window.__locatorCacheObserver.observe(document.documentElement, {childList: true, subtree: true});
+            }
+            return [window.location.href, window.__locatorCacheGeneration];
+            """;
+    private static final String VALIDATION_SCRIPT =
+            "return [window.location.href, window.__locatorCacheGeneration === undefined ? -1 : window.__locatorCacheGeneration];";
+
+    private LocatorCache() {
+    }
+
+    /**
+     * Marks the locator as stable, so its resolved element can be cached. Use it on page object By fields.
+     * Only the returned locator opts in, an equal locator declared elsewhere is not cached.
+     *
+     * @param locator The locator of an element that is not re-rendered while the page is displayed.
+     * @return A locator finding the same elements.
+     */
+    public static By stable(By locator) {
+        return locator instanceof StableBy ? locator : new StableBy(locator);
+    }
+
+    /**
+     * A locator that opted in to the cache, it finds elements with the locator it wraps.
+     */
+    public static final class StableBy extends By {
+        private final By locator;
+
+        private StableBy(By locator) {
+            this.locator = locator;
+        }
+
+        @Override
+        public WebElement findElement(SearchContext context) {
+            return locator.findElement(context);
+        }
+
+        @Override
+        public List<WebElement> findElements(SearchContext context) {
+            return locator.findElements(context);
+        }
+
+        @Override
+        public String toString() {
+            return locator.toString();
+        }
+    }
+
+    public static boolean isEnabled() {
+        return ConfigProvider.getAsBoolean("LOCATOR_CACHE_ENABLED");
+    }
+
+    /**
+     * Returns the cached element for a stable locator, or resolves and caches it.
+     *
+     * @param locator  The locator of the element.
+     * @param resolver Resolves the element when it is not cached.
+     * @return The resolved element.
+     */
+    public static WebElement get(By locator, Supplier<WebElement> resolver) {
+        if (!isEnabled() || !(locator instanceof StableBy)) {
+            return resolver.get();
+        }
+        SessionCache cache = getSessionCache();
+        if (cache.unverified && !cache.elements.isEmpty()) {
+            validate(cache);
+        }
+        WebElement element = cache.elements.get(locator);
+        if (element != null) {
+            cache.hits++;
+            totalHits.increment();
+            return element;
+        }
+        cache.misses++;
+        totalMisses.increment();
+        element = resolver.get();
+        if (cache.elements.isEmpty()) {
+            List<?> state = (List<?>) Driver.getDriver().executeScript(OBSERVER_SCRIPT);
+            cache.url = String.valueOf(state.get(0));
+            cache.generation = ((Number) state.get(1)).longValue();
+            cache.unverified = false;
+        }
+        cache.elements.put(locator, element);
+        return element;
+    }
+
+    // IMPORTANT: call it after any action that can change the DOM, the next hit checks the page before trusting the cache
+    public static void markUnverified() {
+        sessionCache.get().unverified = true;
+    }
+
+    public static void invalidate() {
+        SessionCache cache = sessionCache.get();
+        if (!cache.elements.isEmpty()) {
+            cache.elements.clear();
+            cache.invalidations++;
+            totalInvalidations.increment();
+        }
+    }
+
+    /**
+     * Logs the counters of the current scenario and resets the cache of the current thread.
+     *
+     * @param scenarioName The name of the scenario that just finished.
+     */
+    public static void endScenario(String scenarioName) {
+        SessionCache cache = sessionCache.get();
+        if (isEnabled()) {
+            LOGGER.info("Locator cache for scenario [{}] - hits: [{}], misses: [{}], validations: [{}], " +
+                            "invalidations: [{}], saved round trips: [{}]", scenarioName, cache.hits, cache.misses,
+                    cache.validations, cache.invalidations, cache.hits - cache.validations);
+        }
+        sessionCache.remove();
+    }
+
+    public static void logSummary() {
+        if (isEnabled()) {
+            LOGGER.info("[LocatorCacheHits] is [{}]", totalHits.sum());
+            LOGGER.info("[LocatorCacheMisses] is [{}]", totalMisses.sum());
+            LOGGER.info("[LocatorCacheValidations] is [{}]", totalValidations.sum());
+            LOGGER.info("[LocatorCacheInvalidations] is [{}]", totalInvalidations.sum());
+            LOGGER.info("[LocatorCacheSavedRoundTrips] is [{}]", totalHits.sum() - totalValidations.sum());
+        }
+    }
+
+    private static SessionCache getSessionCache() {
+        SessionCache cache = sessionCache.get();
+        RemoteWebDriver driver = Driver.getDriver();
+        String sessionId = driver == null || driver.getSessionId() == null ? null : driver.getSessionId().toString();
+        if (!Objects.equals(cache.sessionId, sessionId)) {
+            cache.elements.clear();
+            cache.sessionId = sessionId;
+        }
+        return cache;
+    }
+
+    private static void validate(SessionCache cache) {
+        cache.validations++;
+        totalValidations.increment();
+        List<?> state = (List<?>) Driver.getDriver().executeScript(VALIDATION_SCRIPT);
+        String url = String.valueOf(state.get(0));
+        long generation = ((Number) state.get(1)).longValue();
+        if (!url.equals(cache.url) || generation != cache.generation) {
+            LOGGER.debug("Page changed (url [{}] -> [{}], generation [{}] -> [{}]), clearing the locator cache",
+                    cache.url, url, cache.generation, generation);
+            invalidate();
+        }
+        cache.unverified = false;
+    }
+
+    private static final class SessionCache {
+        private final Map<By, WebElement> elements = new HashMap<>();
+        private String sessionId;
+        private String url;
+        private long generation;
+        private boolean unverified;
+        private long hits;
+        private long misses;
+        private long validations;
+        private long invalidations;
+    }
+}
@@ -3,14 +3,22 @@ package com.project.tests.utilities;
 import com.project.utility.extentreports.Screenshots;
 import org.apache.logging.log4j.Logger;
 import org.jetbrains.annotations.NotNull;
-import org.junit.jupiter.api.Assertions;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 public class Log {
+    private static final String MESSAGE_ONLY = "{}";
+    private static final int MAX_CACHED_TEMPLATES = 10_000;
+    private static final Map<String, Integer> placeholderCounts = new ConcurrentHashMap<>();
+
     /**
      * Logs an informational message.
      * Logs a pass message.
      * Logs a warning message.
      * Logs an error message.
+     * The level is checked first, a disabled level costs neither the placeholder check nor the caller lookup.
      *
      * @param logger  The logger instance.
      * @param message The message template with placeholders.
@@ -18,139 +26,113 @@ public class Log {
      * @throws IllegalArgumentException If fewer arguments are provided than placeholders.
      */
     public static void info(Logger logger, Object message, Object @NotNull ... args) {
-        int expectedArgs = countPlaceholders(String.valueOf(message));
-        if (args.length != expectedArgs) {
-            throw new IllegalArgumentException("Mismatch between the number of arguments (" + args.length + ") and " +
-                    "the number of placeholders specified (" + expectedArgs + "). Message [" + message + "].");
-        }
         if (logger.isInfoEnabled()) {
-            logger.info(readStackTrace(message), args);
+            logger.info(readStackTrace(validatePlaceholders(message, args)), args);
         }
     }
 
     public static void warning(Logger logger, Object message, Object @NotNull ... args) {
-        int expectedArgs = countPlaceholders(String.valueOf(message));
-        if (args.length != expectedArgs) {
-            throw new IllegalArgumentException("Mismatch between the number of arguments (" + args.length + ") and " +
-                    "the number of placeholders specified (" + expectedArgs + "). Message [" + message + "].");
-        }
         if (logger.isWarnEnabled()) {
-            logger.warn(readStackTrace(message), args);
+            logger.warn(readStackTrace(validatePlaceholders(message, args)), args);
         }
     }
 
     public static void error(Logger logger, Object message, Object @NotNull ... args) {
-        int expectedArgs = countPlaceholders(String.valueOf(message));
-        if (args.length != expectedArgs) {
-            throw new IllegalArgumentException("Mismatch between the number of arguments (" + args.length + ") and " +
-                    "the number of placeholders specified (" + expectedArgs + "). Message [" + message + "].");
+        if (logger.isErrorEnabled()) {
+            logger.error(readStackTrace(validatePlaceholders(message, args)), args);
         }
+    }
+
+    /**
+     * Logs a message that is only built when the level is enabled, e.g. Log.info(LOGGER, () -> expensiveDescription()).
+     *
+     * @param logger  The logger instance.
+     * @param message Builds the complete message, it is not parsed for placeholders.
+     */
+    public static void info(Logger logger, Supplier<String> message) {
+        if (logger.isInfoEnabled()) {
+            logger.info(MESSAGE_ONLY, readStackTrace(message.get()));
+        }
+    }
+
+    public static void warning(Logger logger, Supplier<String> message) {
+        if (logger.isWarnEnabled()) {
+            logger.warn(MESSAGE_ONLY, readStackTrace(message.get()));
+        }
+    }
+
+    public static void error(Logger logger, Supplier<String> message) {
         if (logger.isErrorEnabled()) {
-            logger.error(readStackTrace(message), args);
+            logger.error(MESSAGE_ONLY, readStackTrace(message.get()));
         }
     }
 
     // IMPORTANT: use this method when you need a specific step to take a screenshot for the extent report
     public static void addInfoStepToExtentReport(Logger logger, Object message, Object @NotNull ... args) {
-        int expectedArgs = countPlaceholders(String.valueOf(message));
-        if (args.length != expectedArgs) {
-            throw new IllegalArgumentException("Mismatch between the number of arguments (" + args.length + ") and " +
-                    "the number of placeholders specified (" + expectedArgs + "). Message [" + message + "].");
-        }
         if (logger.isInfoEnabled()) {
-            logger.info(readStackTrace(message), args);
+            String messageWithCaller = readStackTrace(validatePlaceholders(message, args));
+            logger.info(messageWithCaller, args);
             if (ConfigProvider.getAsString("isExtentReportRequired").equals("true")) {
-                Screenshots.addInfoStepWithScreenshotInReport(Driver.getDriver(), readStackTrace(message));
+                Screenshots.addInfoStepWithScreenshotInReport(Driver.getDriver(), messageWithCaller);
             }
         }
     }
 
     public static void addPassStepToExtentReport(Logger logger, Object message, Object @NotNull ... args) {
-        int expectedArgs = countPlaceholders(String.valueOf(message));
-        if (args.length != expectedArgs) {
-            throw new IllegalArgumentException("Mismatch between the number of arguments (" + args.length + ") and " +
-                    "the number of placeholders specified (" + expectedArgs + "). Message [" + message + "].");
-        }
         if (logger.isInfoEnabled()) {
-            logger.info(readStackTrace(message), args);
+            String messageWithCaller = readStackTrace(validatePlaceholders(message, args));
+            logger.info(messageWithCaller, args);
             if (ConfigProvider.getAsString("isExtentReportRequired").equals("true")) {
-                Screenshots.addPassStepWithScreenshotInReport(Driver.getDriver(), readStackTrace(message));
+                Screenshots.addPassStepWithScreenshotInReport(Driver.getDriver(), messageWithCaller);
             }
         }
     }
 
     public static void addWarningStepToExtentReport(Logger logger, Object message, Object @NotNull ... args) {
-        int expectedArgs = countPlaceholders(String.valueOf(message));
-        if (args.length != expectedArgs) {
-            throw new IllegalArgumentException("Mismatch between the number of arguments (" + args.length + ") and " +
-                    "the number of placeholders specified (" + expectedArgs + "). Message [" + message + "].");
-        }
         if (logger.isWarnEnabled()) {
-            logger.warn(readStackTrace(message), args);
+            String messageWithCaller = readStackTrace(validatePlaceholders(message, args));
+            logger.warn(messageWithCaller, args);
             if (ConfigProvider.getAsString("isExtentReportRequired").equals("true")) {
-                Screenshots.addWarningStepWithScreenshotInReport(Driver.getDriver(), readStackTrace(message));
+                Screenshots.addWarningStepWithScreenshotInReport(Driver.getDriver(), messageWithCaller);
             }
         }
     }
 
     public static void addErrorStepToExtentReport(Logger logger, Object message, Object @NotNull ... args) {
-        int expectedArgs = countPlaceholders(String.valueOf(message));
-        if (args.length != expectedArgs) {
-            throw new IllegalArgumentException("Mismatch between the number of arguments (" + args.length + ") and " +
-                    "the number of placeholders specified (" + expectedArgs + "). Message [" + message + "].");
-        }
         if (logger.isErrorEnabled()) {
-            logger.error(readStackTrace(message), args);
+            String messageWithCaller = readStackTrace(validatePlaceholders(message, args));
+            logger.error(messageWithCaller, args);
             if (ConfigProvider.getAsString("isExtentReportRequired").equals("true")) {
-                Screenshots.addFailureStepWithScreenshotInReport(Driver.getDriver(), readStackTrace(message));
+                Screenshots.addFailureStepWithScreenshotInReport(Driver.getDriver(), messageWithCaller);
             }
         }
     }
 
-    private static String readStackTrace(Object message) {
-        StackTraceElement[] stackTrace = Thread.currentThread().getStackTrace();
-//        for (StackTraceElement trace : stackTrace) {
-//            System.out.println("stack trace: " + trace);
-//        }
-
-        int index = -1;
-        switch (stackTrace.length) {
-            case 4, 5, 29, 52, 53, 54, 57, 72 ,    36, 37, 39, 40, 41, 42, 43, 65, 66, 67, 68, 69 -> index = 3;
-            case 73 -> index = 4;
-            case 55, 56 -> index = 5;
-            default -> Assertions.fail("StackTrace index [" + index + "] does not exist. The length is [" + stackTrace.length + "].");
-        }
-
-        StackTraceElement caller = stackTrace[index];
-        String className = caller.getClassName();
-        int lastDotIndex = className.lastIndexOf('.');
-        if (lastDotIndex != -1) {
-            className = className.substring(lastDotIndex + 1);
-        }
-//        System.out.println("stackTrace size: " + stackTrace.length);
-//        System.out.println("className1: " + className);
-        if (className.contains("StepDef")) {
-            index = 3;
-            caller = stackTrace[index];
-            className = caller.getClassName();
-            lastDotIndex = className.lastIndexOf('.');
-            if (lastDotIndex != -1) {
-                className = className.substring(lastDotIndex + 1);
-            }
-            if (className.contains("SeleniumUtils")) {
-                index = 4;
-                caller = stackTrace[index];
-                className = caller.getClassName();
-                lastDotIndex = className.lastIndexOf('.');
-                if (lastDotIndex != -1) {
-                    className = className.substring(lastDotIndex + 1);
-                }
+    /**
+     * Checks that the number of arguments matches the number of placeholders of the message template.
+     * The placeholder count is cached per template, so a template is only scanned once.
+     *
+     * @throws IllegalArgumentException If the number of arguments differs from the number of placeholders.
+     */
+    private static String validatePlaceholders(Object message, Object[] args) {
+        String template = String.valueOf(message);
+        Integer expectedArgs = placeholderCounts.get(template);
+        if (expectedArgs == null) {
+            expectedArgs = countPlaceholders(template);
+            // IMPORTANT: templates built by concatenation are all different, stop caching instead of growing forever
+            if (placeholderCounts.size() < MAX_CACHED_TEMPLATES) {
+                placeholderCounts.put(template, expectedArgs);
             }
         }
-//        System.out.println("className2: " + className);
-        return String.format("%s.%s[%d] - %s", className, caller.getMethodName(), caller.getLineNumber(), message);
-//        return String.format("%s[%d] - %s", caller.getMethodName(), caller.getLineNumber(), message);
+        if (args.length != expectedArgs) {
+            throw new IllegalArgumentException("Mismatch between the number of arguments (" + args.length + ") and " +
+                    "the number of placeholders specified (" + expectedArgs + "). Message [" + message + "].");
+        }
+        return template;
+    }
 
+    private static String readStackTrace(Object message) {
+        return CallerResolver.resolve() + " - " + message;
     }
 
     private static int countPlaceholders(@NotNull String message) {
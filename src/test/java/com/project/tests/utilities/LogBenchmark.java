@@ -0,0 +1,103 @@
+package com.project.tests.utilities;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.config.LoggerConfig;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Measures the cost of Log at the stack depth of a Cucumber step: the time of the caller lookup and the steady-state
+ * allocation per call (ThreadMXBean.getCurrentThreadAllocatedBytes()). It is not a test, the numbers depend on the
+ * JIT, escape analysis and the machine load, run its main method on a quiet machine and compare them.
+ */
+public final class LogBenchmark {
+    private static final Logger LOGGER = LogManager.getLogger(LogBenchmark.class);
+    // no appender, only the cost of Log and of building the log event is measured
+    private static final Logger DISABLED_LOGGER = silentLogger("LogBenchmark.disabled", Level.WARN);
+    private static final Logger ENABLED_LOGGER = silentLogger("LogBenchmark.enabled", Level.INFO);
+    private static final String TEMPLATE = "Clicked on [{}] after [{}] ms";
+    private static final String ELEMENT_NAME = "Search button";
+    private static final Long DURATION = 125L;
+    // IMPORTANT: about the depth of a page method called from a step definition by the Cucumber runner
+    private static final int STACK_DEPTH = 60;
+    private static final int WARM_UP_CALLS = 20_000;
+    private static final int MEASURED_CALLS = 100_000;
+    private static long sink;
+
+    private LogBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        long stackTraceNanos = atDepth(STACK_DEPTH, () -> nanosPerCall(LogBenchmark::resolveFromStackTrace));
+        long stackWalkerNanos = atDepth(STACK_DEPTH, () -> nanosPerCall(CallerResolver::resolve));
+        LOGGER.info("Caller resolution at stack depth [{}]: Thread.getStackTrace() [{}] ns/call, " +
+                "CallerResolver [{}] ns/call", STACK_DEPTH, stackTraceNanos, stackWalkerNanos);
+        long disabledBytes = atDepth(STACK_DEPTH, () -> bytesPerCall(() ->
+                Log.info(DISABLED_LOGGER, TEMPLATE, ELEMENT_NAME, DURATION)));
+        long loggerBytes = atDepth(STACK_DEPTH, () -> bytesPerCall(() ->
+                ENABLED_LOGGER.info(TEMPLATE, ELEMENT_NAME, DURATION)));
+        long enabledBytes = atDepth(STACK_DEPTH, () -> bytesPerCall(() ->
+                Log.info(ENABLED_LOGGER, TEMPLATE, ELEMENT_NAME, DURATION)));
+        long stackTraceBytes = atDepth(STACK_DEPTH, () -> bytesPerCall(() ->
+                sink += Thread.currentThread().getStackTrace().length));
+        LOGGER.info("Allocation per call at stack depth [{}]: disabled Log.info [{}] bytes, logger [{}] bytes, " +
+                        "Log.info [{}] bytes, Thread.getStackTrace() alone [{}] bytes", STACK_DEPTH, disabledBytes,
+                loggerBytes, enabledBytes, stackTraceBytes);
+    }
+
+    private static Logger silentLogger(String name, Level level) {
+        LoggerContext context = (LoggerContext) LogManager.getContext(false);
+        Configuration configuration = context.getConfiguration();
+        configuration.addLogger(name, new LoggerConfig(name, level, false));
+        context.updateLoggers();
+        return LogManager.getLogger(name);
+    }
+
+    private static long atDepth(int depth, LongSupplier measurement) {
+        return depth == 0 ? measurement.getAsLong() : atDepth(depth - 1, measurement);
+    }
+
+    /**
+     * @return The average bytes allocated by the current thread per call, after a warm-up.
+     */
+    private static long bytesPerCall(Runnable call) {
+        com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < WARM_UP_CALLS; i++) {
+            call.run();
+        }
+        long allocatedBefore = threadBean.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < MEASURED_CALLS; i++) {
+            call.run();
+        }
+        return (threadBean.getCurrentThreadAllocatedBytes() - allocatedBefore) / MEASURED_CALLS;
+    }
+
+    /**
+     * @return The average nanoseconds per call, after a warm-up.
+     */
+    private static long nanosPerCall(Supplier<String> resolver) {
+        for (int i = 0; i < WARM_UP_CALLS; i++) {
+            sink += resolver.get().length();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_CALLS; i++) {
+            sink += resolver.get().length();
+        }
+        return (System.nanoTime() - start) / MEASURED_CALLS;
+    }
+
+    // The resolution Log did before CallerResolver: the whole stack is captured to read a single frame
+    private static String resolveFromStackTrace() {
+        StackTraceElement caller = Thread.currentThread().getStackTrace()[3];
+        String className = caller.getClassName();
+        return className.substring(className.lastIndexOf('.') + 1) + "." + caller.getMethodName() + "[" +
+                caller.getLineNumber() + "]";
+    }
+}
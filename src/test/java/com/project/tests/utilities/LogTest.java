@@ -0,0 +1,78 @@
+package com.project.tests.utilities;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Checks that a disabled level only costs the level check: the message is not built, the template is not read
+ * for placeholders and the caller is not resolved. The allocation per call is measured by LogBenchmark.
+ */
+@Tag("unit")
+class LogTest {
+    private static final String DISABLED_LOGGER_NAME = "LogTest.disabled";
+    private static final String ENABLED_LOGGER_NAME = "LogTest.enabled";
+    private static final Logger DISABLED_LOGGER = LogManager.getLogger(DISABLED_LOGGER_NAME);
+    private static final Logger ENABLED_LOGGER = LogManager.getLogger(ENABLED_LOGGER_NAME);
+
+    @BeforeAll
+    static void setLevels() {
+        Configurator.setLevel(DISABLED_LOGGER_NAME, Level.OFF);
+        Configurator.setLevel(ENABLED_LOGGER_NAME, Level.INFO);
+    }
+
+    @Test
+    void disabledLevelDoesNotBuildTheMessage() {
+        AtomicInteger builtMessages = new AtomicInteger();
+        Supplier<String> message = () -> "Message " + builtMessages.incrementAndGet();
+        Log.info(DISABLED_LOGGER, message);
+        Log.warning(DISABLED_LOGGER, message);
+        Log.error(DISABLED_LOGGER, message);
+        Assertions.assertEquals(0, builtMessages.get());
+    }
+
+    @Test
+    void disabledLevelDoesNotReadTheTemplate() {
+        CountingTemplate template = new CountingTemplate("Clicked on [{}]");
+        Log.info(DISABLED_LOGGER, template, "Search button");
+        Log.warning(DISABLED_LOGGER, template, "Search button");
+        Log.error(DISABLED_LOGGER, template, "Search button");
+        // the caller is resolved from the validated template, an unread template means no caller lookup either
+        Assertions.assertEquals(0, template.reads);
+        // a wrong argument count is only detected when the template is read
+        Assertions.assertDoesNotThrow(() -> Log.info(DISABLED_LOGGER, "Clicked on [{}] after [{}] ms", "Search"));
+    }
+
+    @Test
+    void enabledLevelBuildsTheMessageOnce() {
+        AtomicInteger builtMessages = new AtomicInteger();
+        Log.info(ENABLED_LOGGER, () -> "Message " + builtMessages.incrementAndGet());
+        Assertions.assertEquals(1, builtMessages.get());
+        CountingTemplate template = new CountingTemplate("Clicked on [{}]");
+        Log.info(ENABLED_LOGGER, template, "Search button");
+        Assertions.assertTrue(template.reads > 0, "The enabled level did not read the template");
+    }
+
+    private static final class CountingTemplate {
+        private final String template;
+        private int reads;
+
+        private CountingTemplate(String template) {
+            this.template = template;
+        }
+
+        @Override
+        public String toString() {
+            reads++;
+            return template;
+        }
+    }
+}
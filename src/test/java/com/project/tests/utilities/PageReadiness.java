@@ -0,0 +1,169 @@
+package com.project.tests.utilities;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.chromium.ChromiumDriver;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Waits for a page to be ready with a single asynchronous script call instead of polling document.readyState. <br>
+ * A page is ready when document.readyState is complete, no fetch/XHR request has been in flight for
+ * NETWORK_IDLE_MILLIS and, with PAGE_READY_FRAMEWORK_CHECK, jQuery and Angular report no pending work. <br>
+ * The fetch/XHR hooks are installed before any page script runs on Chromium (CDP), on other browsers
+ * they are installed by the first wait on each document.
+ */
+public final class PageReadiness {
+    private static final Logger LOGGER = LogManager.getLogger(PageReadiness.class);
+    // IMPORTANT: a reloaded PAGE_READY_TIMEOUT is applied by the next wait of each session, on its own thread
+    private static final Map<RemoteWebDriver, Duration> scriptTimeouts =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private static final String NETWORK_HOOK_SCRIPT = """
+            (function () {
+                if (window.__pageReadiness) {
+                    return;
+                }
+                var state = window.__pageReadiness = {pending: 0, lastActivity: Date.now()};
+                function begin() {
+                    state.pending++;
+                    state.lastActivity = Date.now();
+                }
+                function end() {
+                    state.pending = Math.max(0, state.pending - 1);
+                    state.lastActivity = Date.now();
+                }
+                if (window.fetch) {
+                    var originalFetch = window.fetch;
+                    window.fetch = function () {
+                        begin();
+                        return originalFetch.apply(this, arguments).then(function (response) {
+                            end();
+                            return response;
+                        }, function (error) {
+                            end();
+                            throw error;
+                        });
+                    };
+                }
+                var originalSend = XMLHttpRequest.prototype.send;
+                XMLHttpRequest.prototype.send = function () {
+                    begin();
+                    this.addEventListener('loadend', end);
+                    return originalSend.apply(this, arguments);
+                };
+            })();
+            """;
+
+    private static final String WAIT_SCRIPT = NETWORK_HOOK_SCRIPT + """
+            var idleMillis = arguments[0], timeoutMillis = arguments[1], frameworkCheck = arguments[2];
+            var done = arguments[arguments.length - 1];
+            var start = Date.now();
+            function isFrameworkIdle() {
+                if (!frameworkCheck) {
+                    return true;
+                }
+                if (window.jQuery && window.jQuery.active > 0) {
+                    return false;
+                }
+                if (window.getAllAngularTestabilities) {
+                    return window.getAllAngularTestabilities().every(function (testability) {
+                        return testability.isStable();
+                    });
+                }
+                return true;
+            }
+            function check() {
+                var state = window.__pageReadiness;
+                var loaded = document.readyState === 'complete';
+                var networkIdle = state.pending === 0 && Date.now() - state.lastActivity >= idleMillis;
+                var timedOut = Date.now() - start >= timeoutMillis;
+                if ((loaded && networkIdle && isFrameworkIdle()) || timedOut) {
+                    done({elapsed: Date.now() - start, loaded: loaded, networkIdle: networkIdle,
+                            pending: state.pending, url: window.location.href});
+                } else {
+                    setTimeout(check, 50);
+                }
+            }
+            check();
+            """;
+
+    private PageReadiness() {
+    }
+
+    /**
+     * The result of one readiness wait.
+     *
+     * @param url         The URL of the page.
+     * @param elapsed     The time to ready, as measured in the browser.
+     * @param loaded      true if document.readyState reached complete.
+     * @param networkIdle true if no fetch/XHR request was in flight for NETWORK_IDLE_MILLIS.
+     * @param pending     The number of fetch/XHR requests still in flight.
+     */
+    public record Result(String url, Duration elapsed, boolean loaded, boolean networkIdle, long pending) {
+    }
+
+    /**
+     * Installs the fetch/XHR hooks on every new document of the session and sets the script timeout.
+     * Call it once, right after the session is started.
+     *
+     * @param driver The new session.
+     */
+    public static void install(RemoteWebDriver driver) {
+        applyScriptTimeout(driver);
+        if (driver instanceof ChromiumDriver chromiumDriver) {
+            try {
+                chromiumDriver.executeCdpCommand("Page.addScriptToEvaluateOnNewDocument",
+                        Map.of("source", NETWORK_HOOK_SCRIPT));
+            } catch (Exception e) {
+                LOGGER.warn("Failed to preload the network hooks, they will be installed on the first wait. " +
+                        "Exception: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Waits for load plus network idle in one asynchronous script call.
+     * When a navigation unloads the document during the wait, the wait is started again on the new document.
+     *
+     * @param driver The session to wait on.
+     * @return The result of the wait, check loaded and networkIdle to know if the page became ready in time.
+     */
+    public static Result waitUntilReady(RemoteWebDriver driver) {
+        try {
+            return executeWait(driver);
+        } catch (JavascriptException e) {
+            LOGGER.debug("Document changed while waiting for the page to be ready, waiting on the new document. " +
+                    "Exception: {}", e.getMessage());
+            return executeWait(driver);
+        }
+    }
+
+    private static void applyScriptTimeout(RemoteWebDriver driver) {
+        Duration scriptTimeout = getTimeout().plusSeconds(5);
+        if (!scriptTimeout.equals(scriptTimeouts.get(driver))) {
+            driver.manage().timeouts().scriptTimeout(scriptTimeout);
+            scriptTimeouts.put(driver, scriptTimeout);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Result executeWait(RemoteWebDriver driver) {
+        applyScriptTimeout(driver);
+        Map<String, Object> state = (Map<String, Object>) driver.executeAsyncScript(WAIT_SCRIPT,
+                ConfigProvider.getAsLong("NETWORK_IDLE_MILLIS", 500), getTimeout().toMillis(),
+                ConfigProvider.getAsBoolean("PAGE_READY_FRAMEWORK_CHECK"));
+        return new Result(String.valueOf(state.get("url")), Duration.ofMillis(((Number) state.get("elapsed")).longValue()),
+                (Boolean) state.get("loaded"), (Boolean) state.get("networkIdle"), ((Number) state.get("pending")).longValue());
+    }
+
+    public static Duration getTimeout() {
+        return ConfigProvider.getAsDuration("PAGE_READY_TIMEOUT", ChronoUnit.SECONDS, Duration.ofSeconds(60));
+    }
+}
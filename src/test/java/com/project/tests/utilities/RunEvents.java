@@ -0,0 +1,271 @@
+package com.project.tests.utilities;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.ThreadContext;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedTransferQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Stream;
+
+/**
+ * Append-only NDJSON stream of run events (one JSON object per line) in RUN_EVENTS_FILE. <br>
+ * Every event has ts (epoch ms), type, thread and, inside a scenario, scenario. The types are
+ * scenario_start/end, step_start/end, driver_start/stop, wait, page_ready, db_query, screenshot and run_summary. <br>
+ * Reporting reads the events back with {@link #read(String)} and {@link #readRunSummary()} instead of parsing the log.
+ * RUN_EVENTS_ENABLED turns off every event but run_summary, which the email report needs. <br>
+ * Events are serialized on the calling thread and handed to a lock-free queue, a single writer thread drains it
+ * to the file, so emitting never waits for another thread's I/O.
+ */
+public final class RunEvents {
+    private static final Logger LOGGER = LogManager.getLogger(RunEvents.class);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<Map<String, Object>> EVENT_TYPE = new TypeReference<>() {
+    };
+    public static final String RUN_SUMMARY = "run_summary";
+    private static final long FLUSH_TIMEOUT_SECONDS = 30;
+    private static final BlockingQueue<QueuedLine> queue = new LinkedTransferQueue<>();
+    private static Thread writerThread;
+    private static BufferedWriter writer;
+    private static boolean wasOpened;
+    private static volatile boolean writerFailed;
+
+    /**
+     * A line to write, or (line is null) a request to flush or close the file that completes once it is done.
+     */
+    private record QueuedLine(String line, boolean flush, boolean close, CompletableFuture<Void> done) {
+    }
+
+    private RunEvents() {
+    }
+
+    public static boolean isEnabled() {
+        return ConfigProvider.getAsBoolean("RUN_EVENTS_ENABLED");
+    }
+
+    public static Path getFile() {
+        String file = ConfigProvider.getAsString("RUN_EVENTS_FILE");
+        return Paths.get(file == null || file.isBlank() ? "log/run-events.ndjson" : file.trim());
+    }
+
+    /**
+     * Appends an event to the stream.
+     *
+     * @param type      The event type, e.g. "db_query".
+     * @param keyValues The fields of the event as key, value pairs.
+     */
+    public static void emit(String type, Object... keyValues) {
+        if (!isEnabled() && !type.equals(RUN_SUMMARY)) {
+            return;
+        }
+        if (keyValues.length % 2 != 0) {
+            throw new IllegalArgumentException("Event [" + type + "] needs key, value pairs, got [" + keyValues.length +
+                    "] values.");
+        }
+        Map<String, Object> event = new LinkedHashMap<>();
+        event.put("ts", System.currentTimeMillis());
+        event.put("type", type);
+        event.put("thread", Thread.currentThread().getName());
+        String scenario = ThreadContext.get("scenario");
+        if (scenario != null) {
+            event.put("scenario", scenario);
+        }
+        for (int i = 0; i < keyValues.length; i += 2) {
+            event.put(String.valueOf(keyValues[i]), keyValues[i + 1]);
+        }
+        String line;
+        try {
+            line = OBJECT_MAPPER.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            LOGGER.warn("Failed to serialize the run event [{}]. Exception: {}", type, e.getMessage());
+            return;
+        }
+        // IMPORTANT: scenario ends and the run summary are flushed right away, readers may open the file next
+        enqueue(new QueuedLine(line, type.equals("scenario_end") || type.equals(RUN_SUMMARY), false, null));
+    }
+
+    private static void enqueue(QueuedLine queuedLine) {
+        if (writerFailed) {
+            if (queuedLine.done() != null) {
+                queuedLine.done().complete(null);
+            }
+            return;
+        }
+        startWriter();
+        queue.add(queuedLine);
+    }
+
+    private static synchronized void startWriter() {
+        if (writerThread == null) {
+            writerThread = new Thread(RunEvents::drain, "run-events-writer");
+            writerThread.setDaemon(true);
+            writerThread.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(RunEvents::close, "run-events-close"));
+        }
+    }
+
+    private static void drain() {
+        List<QueuedLine> batch = new ArrayList<>();
+        while (true) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            queue.drainTo(batch);
+            for (QueuedLine queuedLine : batch) {
+                if (queuedLine.line() != null) {
+                    write(queuedLine.line(), queuedLine.flush());
+                } else if (queuedLine.close()) {
+                    closeWriter();
+                } else {
+                    write(null, true);
+                }
+                if (queuedLine.done() != null) {
+                    queuedLine.done().complete(null);
+                }
+            }
+            batch.clear();
+        }
+    }
+
+    // IMPORTANT: only called by the writer thread
+    private static void write(String line, boolean flush) {
+        if (writerFailed) {
+            return;
+        }
+        try {
+            if (writer == null) {
+                if (line == null) {
+                    return;
+                }
+                Path file = getFile();
+                if (file.getParent() != null) {
+                    Files.createDirectories(file.getParent());
+                }
+                // IMPORTANT: the first open of the run truncates the file, a reopen after close() appends
+                writer = wasOpened ? Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                        StandardOpenOption.APPEND) : Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+                wasOpened = true;
+            }
+            if (line != null) {
+                writer.write(line);
+                writer.newLine();
+            }
+            if (flush) {
+                writer.flush();
+            }
+        } catch (IOException | RuntimeException e) {
+            // IMPORTANT: also for runtime exceptions, the writer thread must not die with requests left in the queue
+            writerFailed = true;
+            LOGGER.warn("Failed to write the run events to [{}], no more events are written. Exception: {}", getFile(),
+                    e.getMessage());
+        }
+    }
+
+    private static void closeWriter() {
+        if (writer != null) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                LOGGER.warn("Failed to close the run events file. Exception: {}", e.getMessage());
+            }
+            writer = null;
+        }
+    }
+
+    /**
+     * Waits until the events emitted so far are written and flushed.
+     */
+    public static void flush() {
+        await(new QueuedLine(null, true, false, new CompletableFuture<>()));
+    }
+
+    /**
+     * Writes the pending events and closes the file, events emitted afterwards are appended to it.
+     */
+    public static void close() {
+        await(new QueuedLine(null, true, true, new CompletableFuture<>()));
+    }
+
+    private static void await(QueuedLine request) {
+        synchronized (RunEvents.class) {
+            if (writerThread == null) {
+                return;
+            }
+        }
+        enqueue(request);
+        try {
+            request.done().get(FLUSH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            LOGGER.warn("Run events not written within [{}] seconds. Exception: {}", FLUSH_TIMEOUT_SECONDS,
+                    e.getMessage());
+        }
+    }
+
+    /**
+     * Reads the events of the given type from RUN_EVENTS_FILE.
+     *
+     * @param type The event type, or null for all events.
+     * @return The events in the order they were written, empty if the file does not exist.
+     */
+    public static List<Map<String, Object>> read(String type) {
+        List<Map<String, Object>> events = new ArrayList<>();
+        // IMPORTANT: before the check, the file is only created when the writer thread takes the first event
+        flush();
+        Path file = getFile();
+        if (!Files.isReadable(file)) {
+            return events;
+        }
+        try (Stream<String> lines = Files.lines(file, StandardCharsets.UTF_8)) {
+            lines.filter(line -> !line.isBlank())
+                    .filter(line -> type == null || line.contains("\"type\":\"" + type + "\""))
+                    .forEach(line -> {
+                        try {
+                            events.add(OBJECT_MAPPER.readValue(line, EVENT_TYPE));
+                        } catch (JsonProcessingException e) {
+                            LOGGER.warn("Skipping the malformed run event [{}]", line);
+                        }
+                    });
+        } catch (IOException e) {
+            LOGGER.warn("Failed to read the run events from [{}]. Exception: {}", file, e.getMessage());
+        }
+        return events;
+    }
+
+    /**
+     * @return The fields of the last run_summary event as strings, empty (with a warning) if there is none.
+     */
+    public static Map<String, String> readRunSummary() {
+        List<Map<String, Object>> summaries = read(RUN_SUMMARY);
+        Map<String, String> summary = new LinkedHashMap<>();
+        if (summaries.isEmpty()) {
+            LOGGER.warn("No [{}] event in [{}], the run did not finish or its events could not be written.",
+                    RUN_SUMMARY, getFile());
+        } else {
+            summaries.get(summaries.size() - 1).forEach((key, value) -> summary.put(key, String.valueOf(value)));
+        }
+        return summary;
+    }
+}
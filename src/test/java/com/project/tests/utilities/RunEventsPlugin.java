@@ -0,0 +1,50 @@
+package com.project.tests.utilities;
+
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestCaseStarted;
+import io.cucumber.plugin.event.TestStepFinished;
+import io.cucumber.plugin.event.TestStepStarted;
+
+/**
+ * Cucumber plugin that writes the scenario and step events of the RunEvents stream.
+ * Registered in the cucumberPlugin property of the pom.
+ */
+public class RunEventsPlugin implements ConcurrentEventListener {
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestCaseStarted.class, this::onTestCaseStarted);
+        publisher.registerHandlerFor(TestCaseFinished.class, this::onTestCaseFinished);
+        publisher.registerHandlerFor(TestStepStarted.class, this::onTestStepStarted);
+        publisher.registerHandlerFor(TestStepFinished.class, this::onTestStepFinished);
+    }
+
+    private void onTestCaseStarted(TestCaseStarted event) {
+        RunEvents.emit("scenario_start", "name", event.getTestCase().getName(),
+                "uri", String.valueOf(event.getTestCase().getUri()), "line", event.getTestCase().getLocation().getLine(),
+                "tags", event.getTestCase().getTags());
+    }
+
+    private void onTestCaseFinished(TestCaseFinished event) {
+        RunEvents.emit("scenario_end", "name", event.getTestCase().getName(),
+                "status", event.getResult().getStatus().name(), "durationMs", event.getResult().getDuration().toMillis());
+    }
+
+    private void onTestStepStarted(TestStepStarted event) {
+        if (event.getTestStep() instanceof PickleStepTestStep step) {
+            RunEvents.emit("step_start", "text", step.getStep().getKeyword() + step.getStep().getText(),
+                    "line", step.getStep().getLine());
+        }
+    }
+
+    private void onTestStepFinished(TestStepFinished event) {
+        if (event.getTestStep() instanceof PickleStepTestStep step) {
+            RunEvents.emit("step_end", "text", step.getStep().getKeyword() + step.getStep().getText(),
+                    "line", step.getStep().getLine(), "status", event.getResult().getStatus().name(),
+                    "durationMs", event.getResult().getDuration().toMillis());
+        }
+    }
+}
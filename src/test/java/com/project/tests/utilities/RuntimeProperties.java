@@ -0,0 +1,72 @@
+package com.project.tests.utilities;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Values saved while a scenario runs (e.g. the columns of DataBase.selectFirst), read back by later steps. <br>
+ * - Scenario layer: one map per thread, started and cleared by Hooks, so parallel scenarios never see each other's
+ * values and reads take no lock <br>
+ * - Global layer: an immutable map shared by all threads, replaced as a whole by {@link #putGlobal(String, String)}.
+ * With RUNTIME_PROPERTIES_READ_THROUGH a key missing from the scenario layer is looked up there
+ */
+public final class RuntimeProperties {
+    private static final Logger LOGGER = LogManager.getLogger(RuntimeProperties.class);
+    private static final ThreadLocal<Map<String, String>> scenarioProperties = ThreadLocal.withInitial(HashMap::new);
+    private static volatile Map<String, String> globalProperties = Map.of();
+
+    private RuntimeProperties() {
+    }
+
+    public static void startScenario() {
+        scenarioProperties.get().clear();
+    }
+
+    /**
+     * Drops the values of the current scenario. Call it in @After.
+     */
+    public static void endScenario() {
+        Map<String, String> properties = scenarioProperties.get();
+        LOGGER.debug("Clearing [{}] runtime properties", properties.size());
+        scenarioProperties.remove();
+    }
+
+    public static void put(String key, String value) {
+        scenarioProperties.get().put(key, value);
+    }
+
+    /**
+     * @return The value of the current scenario, else (with RUNTIME_PROPERTIES_READ_THROUGH) the global value,
+     * else null.
+     */
+    public static String get(String key) {
+        String value = scenarioProperties.get().get(key);
+        if (value == null && ConfigProvider.getAsBoolean("RUNTIME_PROPERTIES_READ_THROUGH", true)) {
+            value = globalProperties.get(key);
+        }
+        return value;
+    }
+
+    /**
+     * Publishes a value to every scenario, e.g. from @BeforeAll. The global map is copied on every call,
+     * use it for a few values set up front, not per step.
+     */
+    public static synchronized void putGlobal(String key, String value) {
+        Map<String, String> properties = new HashMap<>(globalProperties);
+        properties.put(key, value);
+        globalProperties = Map.copyOf(properties);
+    }
+
+    public static synchronized void removeGlobal(String key) {
+        Map<String, String> properties = new HashMap<>(globalProperties);
+        properties.remove(key);
+        globalProperties = Map.copyOf(properties);
+    }
+
+    public static Map<String, String> getGlobal() {
+        return globalProperties;
+    }
+}
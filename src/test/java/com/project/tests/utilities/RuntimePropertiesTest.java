@@ -0,0 +1,58 @@
+package com.project.tests.utilities;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that a scenario only reads its own values, never the values of another thread or of the previous scenario
+ * of the same thread, and falls back to the global values.
+ */
+@Tag("unit")
+class RuntimePropertiesTest {
+    private static final String KEY = "RuntimePropertiesTest.key";
+
+    @AfterEach
+    void cleanUp() {
+        RuntimeProperties.endScenario();
+        RuntimeProperties.removeGlobal(KEY);
+    }
+
+    @Test
+    void nextScenarioDoesNotSeeThePreviousValues() {
+        RuntimeProperties.startScenario();
+        RuntimeProperties.put(KEY, "first scenario");
+        Assertions.assertEquals("first scenario", RuntimeProperties.get(KEY));
+        RuntimeProperties.endScenario();
+        RuntimeProperties.startScenario();
+        Assertions.assertNull(RuntimeProperties.get(KEY));
+    }
+
+    @Test
+    void otherThreadDoesNotSeeTheValues() throws InterruptedException {
+        RuntimeProperties.startScenario();
+        RuntimeProperties.put(KEY, "this thread");
+        String[] otherThreadValue = {"not read"};
+        Thread otherThread = new Thread(() -> {
+            RuntimeProperties.startScenario();
+            otherThreadValue[0] = RuntimeProperties.get(KEY);
+            RuntimeProperties.put(KEY, "other thread");
+            RuntimeProperties.endScenario();
+        });
+        otherThread.start();
+        otherThread.join();
+        Assertions.assertNull(otherThreadValue[0]);
+        Assertions.assertEquals("this thread", RuntimeProperties.get(KEY));
+    }
+
+    @Test
+    void scenarioValueHidesTheGlobalValue() {
+        RuntimeProperties.putGlobal(KEY, "global");
+        RuntimeProperties.startScenario();
+        Assertions.assertEquals(ConfigProvider.getAsBoolean("RUNTIME_PROPERTIES_READ_THROUGH", true) ? "global" : null,
+                RuntimeProperties.get(KEY));
+        RuntimeProperties.put(KEY, "scenario");
+        Assertions.assertEquals("scenario", RuntimeProperties.get(KEY));
+    }
+}
@@ -0,0 +1,103 @@
+package com.project.tests.utilities;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.ThreadContext;
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.appender.routing.RoutingAppender;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Puts the scenario and thread names in the log4j2 ThreadContext, so every line of a parallel run can be attributed. <br>
+ * With SCENARIO_LOG_FILES each scenario also gets its own file in log/scenarios (routed by the ScenarioFiles appender),
+ * with SCENARIO_LOG_COMPRESS the files are gzipped once the run is over.
+ */
+public final class ScenarioLogContext {
+    private static final Logger LOGGER = LogManager.getLogger(ScenarioLogContext.class);
+    private static final String SCENARIO = "scenario";
+    private static final String THREAD = "thread";
+    private static final String SCENARIO_LOG_FILE = "scenarioLogFile";
+    private static final String ROUTING_APPENDER = "ScenarioFiles";
+    private static final Path SCENARIO_LOG_DIRECTORY = Paths.get("log", "scenarios");
+    private static final AtomicInteger scenarioSequence = new AtomicInteger();
+
+    private ScenarioLogContext() {
+    }
+
+    public static boolean isScenarioLogFilesEnabled() {
+        return ConfigProvider.getAsBoolean("SCENARIO_LOG_FILES");
+    }
+
+    public static void startScenario(String scenarioName) {
+        ThreadContext.put(SCENARIO, scenarioName);
+        ThreadContext.put(THREAD, Thread.currentThread().getName());
+        if (isScenarioLogFilesEnabled()) {
+            // IMPORTANT: the sequence keeps the files of scenario outline examples (same name) apart
+            ThreadContext.put(SCENARIO_LOG_FILE, String.format("%04d-%s", scenarioSequence.incrementAndGet(),
+                    scenarioName.replaceAll("[^A-Za-z0-9_-]+", "_")));
+        }
+    }
+
+    /**
+     * Closes the file of the current scenario and clears the ThreadContext. Call it last in @After.
+     */
+    public static void endScenario() {
+        String scenarioLogFile = ThreadContext.get(SCENARIO_LOG_FILE);
+        ThreadContext.clearMap();
+        if (scenarioLogFile != null && getRoutingAppender() instanceof RoutingAppender routingAppender) {
+            routingAppender.deleteAppender(scenarioLogFile);
+        }
+    }
+
+    /**
+     * Closes the scenario files that are still open and gzips them when SCENARIO_LOG_COMPRESS is set.
+     * Call it once in @AfterAll.
+     */
+    public static void endRun() {
+        if (!isScenarioLogFilesEnabled() || !ConfigProvider.getAsBoolean("SCENARIO_LOG_COMPRESS")
+                || !Files.isDirectory(SCENARIO_LOG_DIRECTORY)) {
+            return;
+        }
+        // IMPORTANT: with async logging a late event can reopen a scenario file, close them all before compressing
+        if (getRoutingAppender() instanceof RoutingAppender routingAppender) {
+            List.copyOf(routingAppender.getAppenders().keySet()).forEach(routingAppender::deleteAppender);
+        }
+        try (Stream<Path> files = Files.list(SCENARIO_LOG_DIRECTORY)) {
+            files.filter(file -> file.toString().endsWith(".log")).forEach(ScenarioLogContext::compress);
+        } catch (IOException e) {
+            LOGGER.warn("Failed to list the scenario log files in [{}]. Exception: {}", SCENARIO_LOG_DIRECTORY,
+                    e.getMessage());
+        }
+    }
+
+    private static Appender getRoutingAppender() {
+        return ((LoggerContext) LogManager.getContext(false)).getConfiguration().getAppender(ROUTING_APPENDER);
+    }
+
+    private static void compress(Path file) {
+        Path compressedFile = file.resolveSibling(file.getFileName() + ".gz");
+        try (InputStream inputStream = Files.newInputStream(file);
+             OutputStream outputStream = new GZIPOutputStream(Files.newOutputStream(compressedFile))) {
+            inputStream.transferTo(outputStream);
+        } catch (IOException e) {
+            LOGGER.warn("Failed to compress [{}]. Exception: {}", file, e.getMessage());
+            return;
+        }
+        try {
+            Files.delete(file);
+        } catch (IOException e) {
+            LOGGER.warn("Failed to delete [{}] after compressing it. Exception: {}", file, e.getMessage());
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.project.tests.utilities;
 
+import com.aventstack.extentreports.Status;
 import com.project.pages.CommonSteps;
+import com.project.utility.extentreports.ExtentTestManager;
 import io.cucumber.datatable.DataTable;
 import org.apache.maven.model.Model;
 import org.apache.maven.model.io.xpp3.MavenXpp3Reader;
@@ -9,12 +11,14 @@ import org.apache.pdfbox.io.RandomAccessBuffer;
 import org.apache.pdfbox.pdfparser.PDFParser;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.text.PDFTextStripper;
+import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Assertions;
 import org.openqa.selenium.*;
 import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
 import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.remote.RemoteWebDriver;
 import org.openqa.selenium.support.ui.*;
@@ -29,6 +33,8 @@ import java.time.Duration;
 import java.util.List;
 import java.util.*;
 import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * SeleniumUtils class contains driver object (RemoteWebDriver). This works for both Local Mode and SauceLabs
@@ -41,58 +47,60 @@ import java.util.NoSuchElementException;
 public class SeleniumUtils {
     /**
      * Waits for the presence of a WebElement identified by the given locator.
-     * Uses FluentWait to handle synchronization issues, with the following configurations: <br>
-     * - Timeout: 45 seconds <br>
-     * - Polling Interval: 500 milliseconds <br>
+     * Locators marked with LocatorCache.stable are served from the locator cache when it is enabled.
+     * Uses WaitEngine to handle synchronization issues, with the following configurations: <br>
+     * - Timeout: EXPLICIT_WAIT seconds, or the timeout registered for this locator <br>
+     * - Polling Interval: starts at 25 milliseconds and backs off up to POLLING_INTERVAL milliseconds <br>
      * - Ignored Exceptions: StaleElementReferenceException, ElementNotInteractableException,
      * NoSuchElementException, ElementClickInterceptedException
      *
      * @param locator The By object identifying the element.
      * @return WebElement once it is located.
-     * @throws TimeoutException                 If the element is not found within the specified timeout.
-     * @throws NoSuchElementException           If the element is not present in the DOM.
-     * @throws ElementNotInteractableException  If the element is present but not interactable.
-     * @throws StaleElementReferenceException   If the element reference is stale.
-     * @throws ElementClickInterceptedException If a click could not be intercepted.
+     * @throws TimeoutException If the element is not found within the specified timeout.
      */
     public WebElement getElement(final By locator) {
-        return new FluentWait<>(Driver.getDriver())
-                .withTimeout(Duration.ofSeconds(45))
-                .pollingEvery(Duration.ofMillis(500))
-                .ignoring(StaleElementReferenceException.class)
-                .ignoring(ElementNotInteractableException.class)
-                .ignoring(NoSuchElementException.class)
-                .ignoring(ElementClickInterceptedException.class)
-                .until((ExpectedCondition<WebElement>) driver ->
-                        Objects.requireNonNull(driver, "Driver cannot be null").findElement(locator));
+        return LocatorCache.get(locator, () -> WaitEngine.until(Driver.getDriver(),
+                driver -> Objects.requireNonNull(driver, "Driver cannot be null").findElement(locator),
+                WaitEngine.getTimeout(locator, WaitEngine.getExplicitWait()), locator.toString()));
     }
 
     /**
      * Waits for the presence of a list of WebElements identified by the given locator.
-     * Uses FluentWait to handle synchronization issues, with the following configurations: <br>
-     * - Timeout: 45 seconds <br>
-     * - Polling Interval: 500 milliseconds <br>
+     * Uses WaitEngine to handle synchronization issues, with the following configurations: <br>
+     * - Timeout: FLUENT_WAIT seconds, or the timeout registered for this locator <br>
+     * - Polling Interval: starts at 25 milliseconds and backs off up to POLLING_INTERVAL milliseconds <br>
      * - Ignored Exceptions: StaleElementReferenceException, ElementNotInteractableException,
      * NoSuchElementException, ElementClickInterceptedException
      *
      * @param locator The By object identifying the elements.
-     * @return List of WebElements once they are located.
-     * @throws TimeoutException                 If the elements are not found within the specified timeout.
-     * @throws NoSuchElementException           If no elements are present in the DOM.
-     * @throws ElementNotInteractableException  If elements are present but not interactable.
-     * @throws StaleElementReferenceException   If the element references are stale.
-     * @throws ElementClickInterceptedException If a click could not be intercepted.
+     * @return List of WebElements once at least one is located.
+     * @throws TimeoutException If the elements are not found within the specified timeout.
      */
     public List<WebElement> getElements(final By locator) {
-        return new FluentWait<>(Driver.getDriver())
-                .withTimeout(Duration.ofSeconds(45))
-                .pollingEvery(Duration.ofMillis(500))
-                .ignoring(StaleElementReferenceException.class)
-                .ignoring(ElementNotInteractableException.class)
-                .ignoring(NoSuchElementException.class)
-                .ignoring(ElementClickInterceptedException.class)
-                .until((ExpectedCondition<List<WebElement>>) driver ->
-                        Objects.requireNonNull(driver, "Driver cannot be null").findElements(locator));
+        return WaitEngine.until(Driver.getDriver(), driver -> {
+            List<WebElement> elements = Objects.requireNonNull(driver, "Driver cannot be null").findElements(locator);
+            // IMPORTANT: an empty list is not a result, the implicit wait that used to cover it is 0
+            return elements.isEmpty() ? null : elements;
+        }, WaitEngine.getTimeout(locator, WaitEngine.getFluentWait()), locator.toString());
+    }
+
+    /**
+     * Waits up to FLUENT_WAIT seconds (or the timeout registered for the child locator) for at least one child of
+     * the parent element.
+     *
+     * @param parent       The parent element.
+     * @param childLocator The By object identifying the children, relative to the parent.
+     * @return The children, an empty list if none appeared within the timeout.
+     */
+    private List<WebElement> findChildElements(WebElement parent, By childLocator) {
+        try {
+            return WaitEngine.until(Driver.getDriver(), driver -> {
+                List<WebElement> children = parent.findElements(childLocator);
+                return children.isEmpty() ? null : children;
+            }, WaitEngine.getTimeout(childLocator, WaitEngine.getFluentWait()), childLocator.toString());
+        } catch (TimeoutException e) {
+            return new ArrayList<>();
+        }
     }
 
     // IMPORTANT: This method should be used only for By elements that are initialized as class variables
@@ -146,13 +154,8 @@ public class SeleniumUtils {
      */
     public void click(By locator, String elementName, Logger logger) {
         try {
-            highlightElement(locator, elementName, logger);
-            WebElement element = getElement(locator);
-            element.click();
+            actOnElement(locator, elementName, logger, WebElement::click);
             Log.info(logger, "Clicked [{}] element", elementName);
-            if (isDisplayed(element)) {
-                unhighlightElement(locator, elementName, logger);
-            }
         } catch (Exception e) {
             String errorMessage = String.format("Could not click on the element [%s]. Exception: %s",
                     elementName, e.getMessage());
@@ -162,27 +165,95 @@ public class SeleniumUtils {
     }
 
     /**
-     * Highlights a WebElement identified by the given locator by applying a red border using JavaScript.
+     * Resolves the element once and performs the action on that same element between highlight and unhighlight.
+     * If the element goes stale before the action is performed, it is resolved again and the sequence is retried once.
      *
-     * @param locator     The By object identifying the element to highlight.
-     * @param elementName A descriptive name for the element being highlighted, used for logging and error messages.
+     * @param locator     The By object identifying the element.
+     * @param elementName A descriptive name for the element, used for logging and error messages.
      * @param logger      The logger to record information and errors.
-     * @throws AssertionError If the highlighting operation fails due to any exception.
-     *                        The error message includes details about the element and the exception that occurred.
+     * @param action      The action to perform on the element.
+     */
+    private void actOnElement(By locator, String elementName, Logger logger, Consumer<WebElement> action) {
+        readFromElement(locator, elementName, logger, element -> {
+            action.accept(element);
+            LocatorCache.markUnverified();
+            return null;
+        });
+    }
+
+    /**
+     * Resolves the element once and performs the action on it without highlighting, e.g. an Actions or JavaScript
+     * action. The next locator cache hit checks the page first, as the action may have changed it.
+     *
+     * @param locator     The By object identifying the element.
+     * @param elementName A descriptive name for the element, used for logging and error messages.
+     * @param logger      The logger to record information and errors.
+     * @param action      The action to perform on the element.
+     */
+    private void performOnElement(By locator, String elementName, Logger logger, Consumer<WebElement> action) {
+        applyToElement(locator, elementName, logger, element -> {
+            action.accept(element);
+            return null;
+        });
+        LocatorCache.markUnverified();
+    }
+
+    /**
+     * Resolves the element once and reads a value from that same element between highlight and unhighlight.
+     * If the element goes stale, it is resolved again and the sequence is retried once.
+     *
+     * @param locator     The By object identifying the element.
+     * @param elementName A descriptive name for the element, used for logging and error messages.
+     * @param logger      The logger to record information and errors.
+     * @param reader      The function reading the value from the element.
+     * @return The value returned by the reader.
+     */
+    private <T> T readFromElement(By locator, String elementName, Logger logger, Function<WebElement, T> reader) {
+        return applyToElement(locator, elementName, logger,
+                element -> highlightAndApply(element, elementName, logger, reader));
+    }
+
+    /**
+     * Resolves the element once and applies the function to it. If the element went stale (e.g. a cached element
+     * of a re-rendered page), the locator cache is cleared, the element is resolved again and the function is
+     * retried once. Every helper that uses the element of a locator goes through here.
+     *
+     * @param locator     The By object identifying the element.
+     * @param elementName A descriptive name for the element, used for logging and error messages.
+     * @param logger      The logger to record information and errors.
+     * @param function    The function applied to the element.
+     * @return The value returned by the function.
      */
-    private void highlightElement(By locator, String elementName, Logger logger) {
+    private <T> T applyToElement(By locator, String elementName, Logger logger, Function<WebElement, T> function) {
         try {
-            JavascriptExecutor js = Driver.getDriver();
-            js.executeScript("arguments[0].style.border='3px solid red'", getElement(locator));
-            logger.debug("Highlighted the element [{}]", elementName);
-        } catch (Exception e) {
-            String errorMessage = String.format("Cannot highlight the element [%s]. Exception: %s",
-                    elementName, e.getMessage());
-            Log.error(logger, errorMessage);
-            Assertions.fail(errorMessage);
+            return function.apply(getElement(locator));
+        } catch (StaleElementReferenceException e) {
+            logger.debug("Element [{}] went stale, resolving it again", elementName);
+            LocatorCache.invalidate();
+            return function.apply(getElement(locator));
         }
     }
 
+    private <T> T highlightAndApply(WebElement element, String elementName, Logger logger,
+                                    Function<WebElement, T> function) {
+        highlightElement(element, elementName, logger);
+        T result = function.apply(element);
+        if (isHighlightEnabled() && isDisplayed(element)) {
+            unhighlightElement(element, elementName, logger);
+        }
+        return result;
+    }
+
+    /**
+     * Checks if elements should be highlighted before an action.
+     * Controlled by HIGHLIGHT_ELEMENTS in Config.properties, -DHIGHLIGHT_ELEMENTS=false turns it off for CI runs.
+     *
+     * @return true if highlighting is enabled, false otherwise.
+     */
+    public static boolean isHighlightEnabled() {
+        return ConfigProvider.getAsBoolean("HIGHLIGHT_ELEMENTS", true);
+    }
+
     /**
      * Highlights a WebElement by applying a red border using JavaScript.
      *
@@ -193,10 +264,15 @@ public class SeleniumUtils {
      *                        The error message includes details about the element and the exception that occurred.
      */
     private void highlightElement(WebElement element, String elementName, Logger logger) {
+        if (!isHighlightEnabled()) {
+            return;
+        }
         try {
             JavascriptExecutor js = Driver.getDriver();
             js.executeScript("arguments[0].style.border='3px solid red'", element);
             logger.debug("Highlighted the element [{}]", elementName);
+        } catch (StaleElementReferenceException e) {
+            throw e;
         } catch (Exception e) {
             String errorMessage = String.format("Cannot highlight the element [%s]. Exception: %s",
                     elementName, e.getMessage());
@@ -205,29 +281,6 @@ public class SeleniumUtils {
         }
     }
 
-    /**
-     * Removes the highlighting of a WebElement identified by the given locator
-     * by clearing the border style using JavaScript.
-     *
-     * @param locator     The By object identifying the element to unhighlight.
-     * @param elementName A descriptive name for the element being unhighlighted, used for logging and error messages.
-     * @param logger      The logger to record information and errors.
-     * @throws AssertionError If the unhighlighting operation fails due to any exception.
-     *                        The error message includes details about the element and the exception that occurred.
-     */
-    private void unhighlightElement(By locator, String elementName, Logger logger) {
-        try {
-            JavascriptExecutor js = Driver.getDriver();
-            js.executeScript("arguments[0].style.border=''", getElement(locator));
-            logger.info("Removed the highlight of the element [{}]", elementName);
-        } catch (Exception e) {
-            String errorMessage = String.format("Cannot remove the highlight of the element [%s]. Exception: %s",
-                    elementName, e.getMessage());
-            Log.error(logger, errorMessage);
-            Assertions.fail(errorMessage);
-        }
-    }
-
     /**
      * Removes the highlighting of a WebElement by clearing the border style using JavaScript.
      *
@@ -238,6 +291,9 @@ public class SeleniumUtils {
      *                        The error message includes details about the element and the exception that occurred.
      */
     private void unhighlightElement(WebElement element, String elementName, Logger logger) {
+        if (!isHighlightEnabled()) {
+            return;
+        }
         try {
             JavascriptExecutor js = Driver.getDriver();
             js.executeScript("arguments[0].style.border=''", element);
@@ -262,10 +318,8 @@ public class SeleniumUtils {
      */
     public void clearData(By locator, String fieldName, Logger logger) {
         try {
-            highlightElement(locator, fieldName, logger);
-            getElement(locator).clear();
+            actOnElement(locator, fieldName, logger, WebElement::clear);
             Log.info(logger, "Field [{}] has been cleared successfully", fieldName);
-            unhighlightElement(locator, fieldName, logger);
         } catch (Exception e) {
             String errorMessage = String.format("Unable to clear the field [%s]. Exception: %s",
                     fieldName, e.getMessage());
@@ -287,11 +341,11 @@ public class SeleniumUtils {
      */
     public void enterData(By locator, String fieldName, String text, Logger logger) {
         try {
-            clearData(locator, fieldName, logger);
-            highlightElement(locator, fieldName, logger);
             Log.info(logger, "Entering the text [{}] in the field [{}]", text, fieldName);
-            getElement(locator).sendKeys(text);
-            unhighlightElement(locator, fieldName, logger);
+            actOnElement(locator, fieldName, logger, element -> {
+                element.clear();
+                element.sendKeys(text);
+            });
         } catch (Exception e) {
             String errorMessage = String.format("Unable to enter data in the field [%s]. Exception: %s",
                     fieldName, e.getMessage());
@@ -314,14 +368,9 @@ public class SeleniumUtils {
     public String getValueOfJavaScriptTextBox(By locator, String textBoxName, Logger logger) {
         String textBoxValue = null;
         try {
-            highlightElement(locator, textBoxName, logger);
-            WebElement element = getElement(locator);
-            textBoxValue = Driver.getDriver()
-                    .executeScript("return arguments[0].value", element).toString();
+            textBoxValue = readFromElement(locator, textBoxName, logger, element -> Driver.getDriver()
+                    .executeScript("return arguments[0].value", element).toString());
             Log.info(logger, "The value of the text box [{}] is [{}]", textBoxName, textBoxValue);
-            if (isDisplayed(element)) {
-                unhighlightElement(locator, textBoxName, logger);
-            }
         } catch (Exception e) {
             String errorMessage = String.format("Unable to read the text from the text box [%s]. Exception: %s",
                     textBoxName, e.getMessage());
@@ -342,6 +391,7 @@ public class SeleniumUtils {
      *                        and the exception that occurred.
      */
     public void getToUrl(String applicationUrl, String applicationUrlName, Logger logger) {
+        LocatorCache.invalidate();
         try {
             Driver.getDriver().get(applicationUrl);
             Log.info(logger, "Navigated to [{}] - [{}]", applicationUrlName, applicationUrl);
@@ -364,6 +414,7 @@ public class SeleniumUtils {
      *                        and the exception that occurred.
      */
     public void navigateToUrl(String applicationUrl, String applicationUrlName, Logger logger) {
+        LocatorCache.invalidate();
         try {
             Driver.getDriver().navigate().to(applicationUrl);
             Log.info(logger, "Navigated to [{}] - [{}]", applicationUrlName, applicationUrl);
@@ -387,12 +438,9 @@ public class SeleniumUtils {
      */
     public void logElementCoordinates(By locator, String elementName, Logger logger) {
         try {
-            highlightElement(locator, elementName, logger);
-            WebElement element = getElement(locator);
-            Point coordinates = element.getLocation();
+            Point coordinates = readFromElement(locator, elementName, logger, WebElement::getLocation);
             Log.info(logger, "Coordinates of the element [{}] - (x:[{}], y:[{}])",
                     elementName, coordinates.getX(), coordinates.getY());
-            unhighlightElement(locator, elementName, logger);
         } catch (Exception e) {
             String errorMessage = String.format("Error retrieving coordinates of the element [%s] - [%s]: %s",
                     elementName, locator, e.getMessage());
@@ -414,15 +462,9 @@ public class SeleniumUtils {
      */
     public void selectByVisibleText(By locator, String dropdownName, String visibleText, Logger logger) {
         try {
-            highlightElement(locator, dropdownName, logger);
-            WebElement element = getElement(locator);
-            Select dropdown = new Select(element);
-            dropdown.selectByVisibleText(visibleText);
+            actOnElement(locator, dropdownName, logger, element -> new Select(element).selectByVisibleText(visibleText));
             Log.info(logger, "Selected option by visible text [{}] from the dropdown [{}]",
                     visibleText, dropdownName);
-            if (isDisplayed(element)) {
-                unhighlightElement(locator, dropdownName, logger);
-            }
         } catch (Exception e) {
             String errorMessage = String.format("Unable to select option by visible text [%s] from the dropdown [%s]." +
                     " Exception: %s", visibleText, dropdownName, e.getMessage());
@@ -449,6 +491,7 @@ public class SeleniumUtils {
             highlightElement(element, dropdownName, logger);
             Select dropdown = new Select(element);
             dropdown.selectByVisibleText(visibleText);
+            LocatorCache.markUnverified();
             Log.info(logger, "Selected option by visible text [{}] from the dropdown [{}]",
                     visibleText, dropdownName);
             if (isDisplayed(element)) {
@@ -477,15 +520,9 @@ public class SeleniumUtils {
      */
     public void selectByValue(By locator, String dropdownName, String value, Logger logger) {
         try {
-            highlightElement(locator, dropdownName, logger);
-            WebElement element = getElement(locator);
-            Select dropdown = new Select(element);
-            dropdown.selectByValue(value);
+            actOnElement(locator, dropdownName, logger, element -> new Select(element).selectByValue(value));
             Log.info(logger, "Selected option by value [{}] from the dropdown [{}]",
                     value, dropdownName);
-            if (isDisplayed(element)) {
-                unhighlightElement(locator, dropdownName, logger);
-            }
         } catch (Exception e) {
             String errorMessage = String.format("Unable to select option by value [%s] from the dropdown [%s]. " +
                     "Exception: %s", value, dropdownName, e.getMessage());
@@ -512,6 +549,7 @@ public class SeleniumUtils {
             highlightElement(element, dropdownName, logger);
             Select dropdown = new Select(element);
             dropdown.selectByValue(value);
+            LocatorCache.markUnverified();
             Log.info(logger, "Selected option by value [{}] from the dropdown [{}]",
                     value, dropdownName);
             if (isDisplayed(element)) {
@@ -540,16 +578,10 @@ public class SeleniumUtils {
      */
     public void selectByIndex(By locator, String dropdownName, String indexString, Logger logger) {
         try {
-            highlightElement(locator, dropdownName, logger);
-            WebElement element = getElement(locator);
             int indexInteger = Integer.parseInt(indexString);
-            Select dropdown = new Select(element);
-            dropdown.selectByIndex(indexInteger);
+            actOnElement(locator, dropdownName, logger, element -> new Select(element).selectByIndex(indexInteger));
             Log.info(logger, "Selected option by the index {} from dropdown [{}]",
                     indexString, dropdownName);
-            if (isDisplayed(element)) {
-                unhighlightElement(locator, dropdownName, logger);
-            }
         } catch (Exception e) {
             String errorMessage = String.format("Unable to select option by index [%s] from the dropdown [%s]. " +
                     "Exception: %s", indexString, dropdownName, e.getMessage());
@@ -576,6 +608,7 @@ public class SeleniumUtils {
             int indexInteger = Integer.parseInt(indexString);
             Select dropdown = new Select(element);
             dropdown.selectByIndex(indexInteger);
+            LocatorCache.markUnverified();
             Log.info(logger, "Selected option by the index {} from dropdown [{}]",
                     indexString, dropdownName);
             if (isDisplayed(element)) {
@@ -604,16 +637,10 @@ public class SeleniumUtils {
      */
     public void selectByIndex(By locator, String dropdownName, int index, Logger logger) {
         try {
-            highlightElement(locator, dropdownName, logger);
-            WebElement element = getElement(locator);
-            Select dropdown = new Select(element);
-            dropdown.selectByIndex(index);
+            actOnElement(locator, dropdownName, logger, element -> new Select(element).selectByIndex(index));
             Log.info(logger, "Selected option by the index {} from dropdown [{}]",
                     index, dropdownName);
             Log.info(logger, "Select the index {} from dropdown", index);
-            if (isDisplayed(element)) {
-                unhighlightElement(locator, dropdownName, logger);
-            }
         } catch (Exception e) {
             String errorMessage = String.format("Unable to select option by index [%s] from the dropdown [%s]. " +
                     "Exception: %s", index, dropdownName, e.getMessage());
@@ -640,6 +667,7 @@ public class SeleniumUtils {
             highlightElement(element, dropdownName, logger);
             Select dropdown = new Select(element);
             dropdown.selectByIndex(index);
+            LocatorCache.markUnverified();
             Log.info(logger, "Selected option by the index {} from dropdown [{}]", index, dropdownName);
             if (isDisplayed(element)) {
                 unhighlightElement(element, dropdownName, logger);
@@ -665,11 +693,8 @@ public class SeleniumUtils {
      */
     public String getAttribute(By locator, String elementName, String attribute, Logger logger) {
         try {
-            highlightElement(locator, elementName, logger);
-            WebElement element = getElement(locator);
             Log.info(logger, "Getting the attribute [{}] for the element [{}]", attribute, elementName);
-            unhighlightElement(locator, elementName, logger);
-            return element.getAttribute(attribute);
+            return readFromElement(locator, elementName, logger, element -> element.getAttribute(attribute));
         } catch (Exception e) {
             String errorMessage = String.format("Attribute [%s] not found for the element [%s]. Exception: %s",
                     attribute, elementName, e.getMessage());
@@ -692,10 +717,8 @@ public class SeleniumUtils {
     public boolean isSelected(By locator, String elementName, Logger logger) {
         boolean status = false;
         try {
-            highlightElement(locator, elementName, logger);
-            status = getElement(locator).isSelected();
+            status = readFromElement(locator, elementName, logger, WebElement::isSelected);
             Log.info(logger, "[{}] is selected: [{}]", elementName, status);
-            unhighlightElement(locator, elementName, logger);
         } catch (Exception e) {
             String errorMessage = String.format("Unable to check if element [%s] is selected. Exception: %s",
                     elementName, e.getMessage());
@@ -718,10 +741,8 @@ public class SeleniumUtils {
     public String getText(By locator, String elementName, Logger logger) {
         String text;
         try {
-            highlightElement(locator, elementName, logger);
-            text = getElement(locator).getText();
+            text = readFromElement(locator, elementName, logger, WebElement::getText);
             Log.info(logger, "Text of element [{}] is: [{}]", elementName, text);
-            unhighlightElement(locator, elementName, logger);
         } catch (Exception e) {
             String errorMessage = String.format("Failed to get text from element [%s]. Exception: %s",
                     elementName, e.getMessage());
@@ -763,6 +784,7 @@ public class SeleniumUtils {
             Actions keyAction = new Actions(Driver.getDriver());
             keyAction.keyDown(Keys.ALT).keyDown(Keys.SHIFT)
                     .sendKeys(inputKey).keyUp(Keys.ALT).keyUp(Keys.SHIFT).perform();
+            LocatorCache.markUnverified();
             Log.info(logger, "Successfully performed Alt+Shift+{} keyboard input", inputKey);
         } catch (Exception e) {
             String errorMessage = String.format("Failed to perform Alt+Shift+%s keyboard input. Exception: %s",
@@ -804,7 +826,7 @@ public class SeleniumUtils {
     public boolean isEditable(By locator, String elementName, boolean expected, Logger logger) {
         boolean actualStatus = false;
         try {
-            getElement(locator).clear();
+            performOnElement(locator, elementName, logger, WebElement::clear);
             Log.info(logger, "Element [{}] is not in read-only form", elementName);
             actualStatus = true;
         } catch (InvalidElementStateException e) {
@@ -825,7 +847,7 @@ public class SeleniumUtils {
     public boolean isEditable(By locator, String elementName, Logger logger) {
         boolean isEditable = false;
         try {
-            getElement(locator).clear();
+            performOnElement(locator, elementName, logger, WebElement::clear);
             Log.info(logger, "Element [{}] is editable", elementName);
             isEditable = true;
         } catch (InvalidElementStateException e) {
@@ -843,10 +865,10 @@ public class SeleniumUtils {
      */
     public void dragAndDrop(By sourceLocator, By targetLocator, Logger logger) {
         try {
-            WebElement sourceElement = getElement(sourceLocator);
-            WebElement targetElement = getElement(targetLocator);
             Actions actions = new Actions(Driver.getDriver());
-            actions.dragAndDrop(sourceElement, targetElement).build().perform();
+            performOnElement(sourceLocator, sourceLocator.toString(), logger, sourceElement ->
+                    applyToElement(targetLocator, targetLocator.toString(), logger, targetElement ->
+                            actions.dragAndDrop(sourceElement, targetElement).build()).perform());
             Log.info(logger, "Performed drag-and-drop from [{}] to [{}]", sourceLocator, targetLocator);
         } catch (Exception e) {
             String errorMessage = String.format("Failed to perform drag-and-drop from [%s] to [%s]. Exception: %s",
@@ -870,10 +892,8 @@ public class SeleniumUtils {
     public boolean isDisplayed(By locator, String elementName, Logger logger) {
         boolean status = false;
         try {
-            highlightElement(locator, elementName, logger);
-            status = getElement(locator).isDisplayed();
+            status = readFromElement(locator, elementName, logger, WebElement::isDisplayed);
             logger.info("Element [{}] is displayed", elementName);
-            unhighlightElement(locator, elementName, logger);
         } catch (Exception e) {
             String errorMessage = String.format("Element [%s] is not displayed or not found. Exception: %s",
                     elementName, e.getMessage());
@@ -909,8 +929,7 @@ public class SeleniumUtils {
     public boolean isEnabled(By locator, String elementName, Logger logger) {
         boolean isEnabled = false;
         try {
-            WebElement element = getElement(locator);
-            isEnabled = element.isEnabled();
+            isEnabled = applyToElement(locator, elementName, logger, WebElement::isEnabled);
             String logMessage = String.format("Element [%s] is [%s]", elementName, isEnabled ? "enabled" : "disabled");
             Log.info(logger, logMessage);
         } catch (Exception e) {
@@ -929,8 +948,7 @@ public class SeleniumUtils {
      */
     public void verifyElementIsEnabled(By locator, String elementName, Logger logger) {
         try {
-            WebElement element = getElement(locator);
-            if (element.isEnabled()) {
+            if (applyToElement(locator, elementName, logger, WebElement::isEnabled)) {
                 String successMsg = String.format("Element [%s] is enabled on the page", elementName);
                 Log.info(logger, successMsg);
             } else {
@@ -954,8 +972,7 @@ public class SeleniumUtils {
      */
     public void verifyElementIsNotEnabled(By locator, String elementName, Logger logger) {
         try {
-            WebElement element = getElement(locator);
-            if (!element.isEnabled()) {
+            if (!applyToElement(locator, elementName, logger, WebElement::isEnabled)) {
                 String successMsg = String.format("Element [%s] is not enabled on the page.", elementName);
                 Log.info(logger, successMsg);
             } else {
@@ -981,10 +998,9 @@ public class SeleniumUtils {
      */
     public boolean isTextPresentInDropdown(By locator, String dropdownName, String expectedText, Logger logger) {
         try {
-            Select select = new Select(getElement(locator));
-            List<WebElement> options = select.getOptions();
-            for (WebElement option : options) {
-                String actualText = option.getText().trim();
+            List<DropdownOption> options = applyToElement(locator, dropdownName, logger, this::readDropdownOptions);
+            for (DropdownOption option : options) {
+                String actualText = option.text().trim();
                 if (actualText.equals(expectedText)) {
                     Log.info(logger, "Text value [{}] is present in the dropdown [{}]",
                             expectedText, dropdownName);
@@ -1089,8 +1105,8 @@ public class SeleniumUtils {
      */
     public void clickByJS(By locator, String elementName, Logger logger) {
         try {
-            WebElement element = getElement(locator);
-            Driver.getDriver().executeScript("arguments[0].click();", element);
+            performOnElement(locator, elementName, logger,
+                    element -> Driver.getDriver().executeScript("arguments[0].click();", element));
             Log.info(logger, "Clicked [{}] element using JavaScript", elementName);
         } catch (Exception e) {
             String errorMessage = String.format("Unable to click '%s' using JavaScript. Exception: %s",
@@ -1111,6 +1127,7 @@ public class SeleniumUtils {
      * @throws AssertionError If the frame is not found within the specified wait time.
      */
     public void switchFrameWithFrameName(String frameName, Logger logger) {
+        LocatorCache.invalidate();
         try {
             WebDriverWait webDriverWait = new WebDriverWait(Driver.getDriver(), Duration.ofSeconds(45));
             webDriverWait.until(ExpectedConditions.frameToBeAvailableAndSwitchToIt(By.name(frameName)));
@@ -1132,6 +1149,7 @@ public class SeleniumUtils {
      * @throws AssertionError If the frame is not found within the specified wait time.
      */
     public void switchFrameWithFrameNumber(int frameIndex, Logger logger) {
+        LocatorCache.invalidate();
         try {
             WebElement iframeElement = getElement(By.tagName("iframe"));
             Log.info(logger, "Number of frame tags found: [{}]", iframeElement);
@@ -1274,7 +1292,7 @@ public class SeleniumUtils {
      */
     public int getCountOfAllElementsWithTagName(By locator, String tagName, Logger logger) {
         try {
-            List<WebElement> elements = getElement(locator).findElements(By.tagName(tagName));
+            List<WebElement> elements = findChildElements(getElement(locator), By.tagName(tagName));
             int count = elements.size();
             Log.info(logger, "Number of elements with tag [{}] found is: [{}]", tagName, count);
             return count;
@@ -1311,6 +1329,7 @@ public class SeleniumUtils {
      */
     // TODO: The method name might need to be changed to getWindowHandles
     public ArrayList<String> switchWindowHandle(Logger logger) {
+        LocatorCache.invalidate();
         String window1;
         String window2;
         ArrayList<String> windows = new ArrayList<>();
@@ -1337,6 +1356,7 @@ public class SeleniumUtils {
      * @param logger The logger for logging information.
      */
     public void switchToWindow(String window, Logger logger) {
+        LocatorCache.invalidate();
         try {
             Driver.getDriver().switchTo().window(window);
             Log.info(logger, "Switched to window with handle: [{}]", window);
@@ -1354,6 +1374,7 @@ public class SeleniumUtils {
      * @param logger The logger for logging information.
      */
     public void switchToMainWindow(Logger logger) {
+        LocatorCache.invalidate();
         try {
             ArrayList<String> windows = switchWindowHandle(logger);
             if (!windows.isEmpty()) {
@@ -1382,8 +1403,7 @@ public class SeleniumUtils {
      */
     public int getXCoordinate(By locator, String elementName, Logger logger) {
         try {
-            WebElement element = getElement(locator);
-            int xCoordinate = element.getLocation().getX();
+            int xCoordinate = applyToElement(locator, elementName, logger, element -> element.getLocation().getX());
             Log.info(logger, "X-coordinate of element [{}] is: [{}]", elementName, xCoordinate);
             return xCoordinate;
         } catch (Exception e) {
@@ -1403,8 +1423,7 @@ public class SeleniumUtils {
      */
     public int getYCoordinate(By locator, String elementName, Logger logger) {
         try {
-            WebElement element = getElement(locator);
-            int yCoordinate = element.getLocation().getY();
+            int yCoordinate = applyToElement(locator, elementName, logger, element -> element.getLocation().getY());
             Log.info(logger, "Y-coordinate of element [{}] is: [{}]", elementName, yCoordinate);
             return yCoordinate;
         } catch (Exception e) {
@@ -1426,8 +1445,8 @@ public class SeleniumUtils {
      */
     public boolean isAttributePresent(By locator, String elementName, String attribute, Logger logger) {
         try {
-            WebElement element = getElement(locator);
-            String attributeValue = element.getAttribute(attribute);
+            String attributeValue = applyToElement(locator, elementName, logger,
+                    element -> element.getAttribute(attribute));
             Log.info(logger, "Attribute [{}] of element [{}] is present with value: [{}]",
                     attribute, elementName, attributeValue);
             if (attributeValue != null && !attributeValue.equalsIgnoreCase("null")) {
@@ -1493,6 +1512,7 @@ public class SeleniumUtils {
      * Logs success or failure messages.
      */
     public void switchToDefault(Logger logger) {
+        LocatorCache.invalidate();
         try {
             Driver.getDriver().switchTo().defaultContent();
             Log.info(logger, "Switched to default content");
@@ -1517,7 +1537,7 @@ public class SeleniumUtils {
                                                      By childLocator, String childElementName, Logger logger) {
         try {
             WebElement rootWebElement = getElement(parentLocator);
-            List<WebElement> children = rootWebElement.findElements(childLocator);
+            List<WebElement> children = findChildElements(rootWebElement, childLocator);
             Log.info(logger, "Found [{}] descendant elements with the specified property " +
                     "under the parent element [{}]", children.size(), parentElementName);
             return children;
@@ -1540,8 +1560,7 @@ public class SeleniumUtils {
     public void moveToElement(By locator, String elementName, Logger logger) {
         try {
             Actions action = new Actions(Driver.getDriver());
-            WebElement element = getElement(locator);
-            action.moveToElement(element).build().perform();
+            performOnElement(locator, elementName, logger, element -> action.moveToElement(element).build().perform());
             Log.info(logger, "Moved mouse pointer to the element: [{}]", elementName);
         } catch (Exception e) {
             String errorMessage = String.format("Failed to move mouse pointer to the element [%s]. Exception: %s",
@@ -1584,8 +1603,8 @@ public class SeleniumUtils {
      */
     public void sendKeysUsingJavaScript(By locator, String elementName, String keyToSend, Logger logger) {
         try {
-            WebElement textBox = getElement(locator);
-            Driver.getDriver().executeScript("arguments[0].value='" + keyToSend + "';", textBox);
+            performOnElement(locator, elementName, logger, textBox ->
+                    Driver.getDriver().executeScript("arguments[0].value='" + keyToSend + "';", textBox));
             Log.info(logger, "Set value [{}] using JavaScript for element [{}]", keyToSend, elementName);
         } catch (Exception e) {
             String errorMessage = String.format("Failed to set value [%s] using JavaScript for element [%s]. " +
@@ -1604,8 +1623,8 @@ public class SeleniumUtils {
      */
     public void clearUsingJavaScript(By locator, String elementName, Logger logger) {
         try {
-            WebElement element = getElement(locator);
-            Driver.getDriver().executeScript("arguments[0].value='';", element);
+            performOnElement(locator, elementName, logger,
+                    element -> Driver.getDriver().executeScript("arguments[0].value='';", element));
             Log.info(logger, "Cleared value for element [{}]", elementName);
         } catch (Exception e) {
             String errorMessage = String.format("Failed to clear value for element [%s]. " +
@@ -1617,8 +1636,8 @@ public class SeleniumUtils {
 
     public void clearUsingJavaScript(By Locator) {
         try {
-            WebElement element = getElement(Locator);
-            Driver.getDriver().executeScript("arguments[0].value='';", element);
+            performOnElement(Locator, Locator.toString(), LogManager.getLogger(SeleniumUtils.class),
+                    element -> Driver.getDriver().executeScript("arguments[0].value='';", element));
         } catch (Exception e) {
             Assertions.fail("Element Not Found " + Locator + " | Error - " + e);
         }
@@ -1634,7 +1653,7 @@ public class SeleniumUtils {
      */
     public String getTagName(By locator, String elementName, Logger logger) {
         try {
-            String tagName = getElement(locator).getTagName();
+            String tagName = applyToElement(locator, elementName, logger, WebElement::getTagName);
             Log.info(logger, "Tag name for element [{}] is [{}]", elementName, tagName);
             return tagName;
         } catch (Exception e) {
@@ -1657,8 +1676,8 @@ public class SeleniumUtils {
      */
     public String getCssValue(By locator, String elementName, String propertyName, Logger logger) {
         try {
-            WebElement element = getElement(locator);
-            String cssValue = element.getCssValue(propertyName);
+            String cssValue = applyToElement(locator, elementName, logger,
+                    element -> element.getCssValue(propertyName));
             Log.info(logger, "CSS value of property [{}] for element [{}] is [{}]",
                     propertyName, elementName, cssValue);
             return cssValue;
@@ -1697,6 +1716,7 @@ public class SeleniumUtils {
      * @param logger         Logger for recording log messages.
      */
     public void switchToWindowByPosition(int windowPosition, Logger logger) {
+        LocatorCache.invalidate();
         try {
             int counter = 1;
             for (String handle : Driver.getDriver().getWindowHandles()) {
@@ -1728,7 +1748,8 @@ public class SeleniumUtils {
     public void performDoubleClick(By locator, String elementName, Logger logger) {
         try {
             Actions action = new Actions(Driver.getDriver());
-            action.moveToElement(getElement(locator)).doubleClick().perform();
+            performOnElement(locator, elementName, logger,
+                    element -> action.moveToElement(element).doubleClick().perform());
             Log.info(logger, "Double-clicked on element [{}]", elementName);
         } catch (Exception e) {
             String errorMessage = String.format("Failed to double-click on element [%s]. " +
@@ -1747,8 +1768,8 @@ public class SeleniumUtils {
      */
     public void scrollToElementByJS(By locator, String elementName, Logger logger) {
         try {
-            WebElement element = getElement(locator);
-            Driver.getDriver().executeScript("arguments[0].scrollIntoView(true);", element);
+            performOnElement(locator, elementName, logger,
+                    element -> Driver.getDriver().executeScript("arguments[0].scrollIntoView(true);", element));
             Log.info(logger, "Scrolled to element [{}]", elementName);
         } catch (Exception e) {
             String errorMessage = String.format("Failed to scroll to element [%s]. Exception: %s",
@@ -1768,7 +1789,7 @@ public class SeleniumUtils {
     public void performMouseHover(By locator, String elementName, Logger logger) {
         try {
             Actions action = new Actions(Driver.getDriver());
-            action.moveToElement(getElement(locator)).build().perform();
+            performOnElement(locator, elementName, logger, element -> action.moveToElement(element).build().perform());
             Log.info(logger, "Mouse hovered over [{}]", elementName);
         } catch (Exception e) {
             String errorMessage = String.format("Mouse hover over failed on [%s]. Exception: %s",
@@ -1788,9 +1809,10 @@ public class SeleniumUtils {
     public void mouseHoldHover(By locator, String elementName, Logger logger) {
         try {
             Actions action = new Actions(Driver.getDriver());
-            WebElement element = getElement(locator);
-            action.clickAndHold().moveToElement(element);
-            action.moveToElement(element).build().perform();
+            performOnElement(locator, elementName, logger, element -> {
+                action.clickAndHold().moveToElement(element);
+                action.moveToElement(element).build().perform();
+            });
             Log.info(logger, "Performed mouse hold hover on element [{}]", elementName);
         } catch (Exception e) {
             String errorMessage = String.format("Failed to perform mouse hold hover on element [%s]. " +
@@ -1812,7 +1834,8 @@ public class SeleniumUtils {
                 "evObj.initEvent('mouseover', true, false); arguments[0].dispatchEvent(evObj);} " +
                 "else if (document.createEventObject) {arguments[0].fireEvent('onmouseover');}";
         try {
-            Driver.getDriver().executeScript(mouseOverScript, getElement(locator));
+            performOnElement(locator, elementName, logger,
+                    element -> Driver.getDriver().executeScript(mouseOverScript, element));
             Log.info(logger, "Mouse hovered over element '{}' with locator: [{}]", elementName, locator);
         } catch (Exception e) {
             String errorMessage = String.format("Failed to hover over element [%s] using JavaScript. Exception: %s",
@@ -1832,8 +1855,8 @@ public class SeleniumUtils {
      */
     public boolean isDropdownDisabled(By locator, String dropdownName, Logger logger) {
         try {
-            WebElement dropdown = getElement(locator);
-            String disabledAttribute = dropdown.getAttribute("disabled");
+            String disabledAttribute = applyToElement(locator, dropdownName, logger,
+                    dropdown -> dropdown.getAttribute("disabled"));
             if (disabledAttribute != null && disabledAttribute.equalsIgnoreCase("true")) {
                 Log.info(logger, "Dropdown [{}] is Disabled", dropdownName);
                 return true;
@@ -1858,19 +1881,18 @@ public class SeleniumUtils {
      */
     public void waitForEitherElementVisible(By firstLocator, By secondLocator, Logger logger) {
         try {
-            mainLoop:
-            for (int attempt = 0; attempt < 6; attempt++) {
-                for (int waitTime = 0; waitTime < 45; waitTime++) {
-                    if (isElementDisplayed(firstLocator)) {
-                        Log.info(logger, "waitForEitherElementVisible: Found the first element");
-                        break mainLoop;
-                    }
-                    if (isElementDisplayed(secondLocator)) {
-                        Log.info(logger, "waitForEitherElementVisible: Found the second element");
-                        break mainLoop;
-                    }
-                    CommonSteps.waitForSeconds(3);
-                }
+            // Same overall bound as the former 6 x 45 polls with 3 second sleeps
+            Optional<By> visibleLocator = ConditionWait.until(() -> isElementDisplayed(firstLocator) ? firstLocator
+                            : isElementDisplayed(secondLocator) ? secondLocator : null,
+                    Duration.ofSeconds(6 * 45 * 3), ConditionWait.PollStrategy.backoff(Duration.ofMillis(100),
+                            WaitEngine.getMaxPollingInterval()));
+            if (visibleLocator.isEmpty()) {
+                Log.warning(logger, "waitForEitherElementVisible: Neither [{}] nor [{}] became visible", firstLocator,
+                        secondLocator);
+            } else if (visibleLocator.get() == firstLocator) {
+                Log.info(logger, "waitForEitherElementVisible: Found the first element");
+            } else {
+                Log.info(logger, "waitForEitherElementVisible: Found the second element");
             }
         } catch (Exception e) {
             String errorMessage = String.format("Failed to wait for both elements. Exception: %s", e.getMessage());
@@ -1887,8 +1909,8 @@ public class SeleniumUtils {
      */
     private boolean isElementDisplayed(By locator) {
         try {
-            return getElement(locator).isDisplayed();
-        } catch (NoSuchElementException | TimeoutException e) {
+            return Driver.getDriver().findElements(locator).stream().anyMatch(WebElement::isDisplayed);
+        } catch (StaleElementReferenceException e) {
             return false;
         }
     }
@@ -1904,9 +1926,8 @@ public class SeleniumUtils {
     public String getHiddenElementsTextWithJavaScript(By locator, String elementName, Logger logger) {
         String hiddenText = null;
         try {
-            WebElement element = getElement(locator);
-            hiddenText = (String) Driver.getDriver()
-                    .executeScript("return arguments[0].textContent;", element);
+            hiddenText = applyToElement(locator, elementName, logger, element -> (String) Driver.getDriver()
+                    .executeScript("return arguments[0].textContent;", element));
             Log.info(logger, "Retrieved text content of the hidden element [{}]: [{}]",
                     elementName, hiddenText);
         } catch (Exception e) {
@@ -1944,9 +1965,8 @@ public class SeleniumUtils {
      */
     public String getTextOfSelectOptionInDropdown(By locator, String dropdownName, Logger logger) {
         try {
-            Select select = new Select(getElement(locator));
-            WebElement option = select.getFirstSelectedOption();
-            String selectedText = option.getText();
+            String selectedText = applyToElement(locator, dropdownName, logger,
+                    dropdown -> new Select(dropdown).getFirstSelectedOption().getText());
             Log.info(logger, "Selected text of dropdown [{}] is: [{}]", dropdownName, selectedText);
             return selectedText;
         } catch (Exception e) {
@@ -1969,8 +1989,8 @@ public class SeleniumUtils {
     public String getValueOfSelectedOptionInDropdown(By locator, String dropdownName, Logger logger) {
         String selectedOptionValue = null;
         try {
-            Select select = new Select(getElement(locator));
-            selectedOptionValue = select.getFirstSelectedOption().getAttribute("value");
+            selectedOptionValue = applyToElement(locator, dropdownName, logger,
+                    dropdown -> new Select(dropdown).getFirstSelectedOption().getAttribute("value"));
             Log.info(logger, "Selected option from dropdown [{}] has value: [{}]",
                     dropdownName, selectedOptionValue);
         } catch (Exception e) {
@@ -2011,13 +2031,12 @@ public class SeleniumUtils {
     public List<String> getAllElementsFromDropdownWithBlank(By locator, String dropdownName, Logger logger) {
         List<String> allElementsText = new ArrayList<>();
         try {
-            Select dropdown = new Select(getElement(locator));
-            List<WebElement> allElements = dropdown.getOptions();
+            List<DropdownOption> allElements = applyToElement(locator, dropdownName, logger,
+                    this::readDropdownOptions);
             Log.info(logger, "Size of all options in dropdown [{}] is: [{}]",
                     dropdownName, allElements.size());
-            for (WebElement element : allElements) {
-                String optionText = element.getText();
-                allElementsText.add(optionText);
+            for (DropdownOption option : allElements) {
+                allElementsText.add(option.text());
             }
             Log.info(logger, "Size of all the options including blank in the dropdown [{}] is: [{}]",
                     dropdownName, allElementsText.size());
@@ -2043,13 +2062,12 @@ public class SeleniumUtils {
     public List<String> getAllElementsFromDropdownWithoutBlank(By locator, String dropdownName, Logger logger) {
         List<String> allElementsText = new ArrayList<>();
         try {
-            List<WebElement> allElements;
-            Select select = new Select(getElement(locator));
-            allElements = select.getOptions();
+            List<DropdownOption> allElements = applyToElement(locator, dropdownName, logger,
+                    this::readDropdownOptions);
             Log.info(logger, "Size of all options in the dropdown [{}] is [{}]",
                     dropdownName, allElements.size());
-            for (WebElement element : allElements) {
-                String text = element.getText().trim();
+            for (DropdownOption option : allElements) {
+                String text = option.text().trim();
                 if (!text.isEmpty()) {
                     allElementsText.add(text);
                 }
@@ -2066,12 +2084,75 @@ public class SeleniumUtils {
         return allElementsText;
     }
 
+    /**
+     * Retrieves value, text, disabled and selected state of all options from a dropdown.
+     *
+     * @param locator      The By object identifying the dropdown element.
+     * @param dropdownName A descriptive name for the dropdown, used for logging and error messages.
+     * @param logger       The logger to record information and errors.
+     * @return A list with the state of every option, in document order.
+     */
+    public List<DropdownOption> getDropdownOptions(By locator, String dropdownName, Logger logger) {
+        try {
+            List<DropdownOption> options = applyToElement(locator, dropdownName, logger, this::readDropdownOptions);
+            Log.info(logger, "Size of all options in the dropdown [{}] is [{}]", dropdownName, options.size());
+            return options;
+        } catch (Exception e) {
+            String errorMessage = String.format("Unable to read the options from the dropdown [%s]. Exception: %s",
+                    dropdownName, e.getMessage());
+            Log.error(logger, errorMessage);
+            Assertions.fail(errorMessage);
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Reads all options of a select element in a single script call, instead of one remote call per option.
+     * Falls back to the Select path when the script cannot be executed.
+     *
+     * @param dropdown The select element.
+     * @return A list with the state of every option, in document order.
+     */
+    protected List<DropdownOption> readDropdownOptions(WebElement dropdown) {
+        try {
+            return readDropdownOptionsWithScript(dropdown);
+        } catch (StaleElementReferenceException e) {
+            throw e;
+        } catch (WebDriverException | ClassCastException e) {
+            return readDropdownOptionsWithSelect(dropdown);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    protected List<DropdownOption> readDropdownOptionsWithScript(WebElement dropdown) {
+        List<Map<String, Object>> options = (List<Map<String, Object>>) Driver.getDriver().executeScript(
+                "return Array.prototype.map.call(arguments[0].options, function (option) {" +
+                        " return {value: option.value, text: option.text, disabled: option.disabled," +
+                        " selected: option.selected}; });", dropdown);
+        List<DropdownOption> dropdownOptions = new ArrayList<>(options.size());
+        for (Map<String, Object> option : options) {
+            dropdownOptions.add(new DropdownOption((String) option.get("value"), (String) option.get("text"),
+                    (Boolean) option.get("disabled"), (Boolean) option.get("selected")));
+        }
+        return dropdownOptions;
+    }
+
+    protected List<DropdownOption> readDropdownOptionsWithSelect(WebElement dropdown) {
+        List<DropdownOption> dropdownOptions = new ArrayList<>();
+        for (WebElement option : new Select(dropdown).getOptions()) {
+            dropdownOptions.add(new DropdownOption(option.getAttribute("value"), option.getText().trim(),
+                    !option.isEnabled(), option.isSelected()));
+        }
+        return dropdownOptions;
+    }
+
     /**
      * Refreshes the current page and handles any alert present after the refresh.
      *
      * @param logger The logger to record information and errors.
      */
     public void refreshPage(Logger logger) {
+        LocatorCache.invalidate();
         try {
             Driver.getDriver().navigate().refresh();
             Log.info(logger, "Page refreshed successfully");
@@ -2093,14 +2174,8 @@ public class SeleniumUtils {
      */
     public String getElementBackgroundColor(By locator, String elementName, Logger logger) {
         try {
-            WebElement element = getElement(locator);
-            String color = element.getCssValue("background-color");
-            String[] rgbValues = color.replace("rgba(", "")
-                    .replace(")", "").split(",");
-            int red = Integer.parseInt(rgbValues[0].trim());
-            int green = Integer.parseInt(rgbValues[1].trim());
-            int blue = Integer.parseInt(rgbValues[2].trim());
-            String hexadecimalColor = String.format("#%02x%02x%02x", red, green, blue);
+            String hexadecimalColor = ElementSnapshot.toHexColor(applyToElement(locator, elementName, logger,
+                    element -> element.getCssValue("background-color")));
             Log.info(logger, "Element [{}] has hexadecimal color [{}]", elementName, hexadecimalColor);
             return hexadecimalColor;
         } catch (Exception e) {
@@ -2112,19 +2187,115 @@ public class SeleniumUtils {
         }
     }
 
+    private static final String ELEMENT_SNAPSHOT_SCRIPT = """
+            var element = arguments[0], attributeNames = arguments[1], cssNames = arguments[2];
+            var style = window.getComputedStyle(element);
+            var rect = element.getBoundingClientRect();
+            var attributes = {}, cssValues = {};
+            attributeNames.forEach(function (name) {
+                var property = element[name];
+                var isPrimitive = property !== undefined && property !== null
+                        && typeof property !== 'object' && typeof property !== 'function';
+                attributes[name] = isPrimitive ? String(property) : element.getAttribute(name);
+            });
+            cssNames.forEach(function (name) {
+                cssValues[name] = style.getPropertyValue(name);
+            });
+            return {
+                tagName: element.tagName.toLowerCase(),
+                text: (element.innerText === undefined ? element.textContent : element.innerText).trim(),
+                attributes: attributes,
+                cssValues: cssValues,
+                x: Math.round(rect.left + window.scrollX),
+                y: Math.round(rect.top + window.scrollY),
+                width: Math.round(rect.width),
+                height: Math.round(rect.height),
+                displayed: style.display !== 'none' && style.visibility !== 'hidden'
+                        && (element.offsetWidth > 0 || element.offsetHeight > 0 || element.getClientRects().length > 0),
+                enabled: !element.disabled,
+                selected: !!(element.checked || element.selected)
+            };
+            """;
+
+    /**
+     * Reads text, the given attributes and computed styles, rect, displayed, enabled and selected state
+     * of the element in a single executeScript round trip. If the element goes stale, it is resolved again once.
+     *
+     * @param locator       The By object identifying the element.
+     * @param elementName   A descriptive name for the element, used for logging and error messages.
+     * @param attributes    The attributes to read, e.g. "value", "class".
+     * @param cssProperties The computed styles to read, e.g. "background-color".
+     * @param logger        The logger to record information and errors.
+     * @return An immutable snapshot of the element, or null if an error occurs.
+     * @throws AssertionError If the snapshot cannot be taken.
+     */
+    public ElementSnapshot getElementSnapshot(By locator, String elementName, List<String> attributes,
+                                              List<String> cssProperties, Logger logger) {
+        try {
+            ElementSnapshot snapshot = applyToElement(locator, elementName, logger,
+                    element -> takeElementSnapshot(element, attributes, cssProperties));
+            Log.info(logger, "Snapshot of element [{}] is: [{}]", elementName, snapshot);
+            return snapshot;
+        } catch (Exception e) {
+            String errorMessage = String.format("Failed to take a snapshot of element [%s]. Exception: %s",
+                    elementName, e.getMessage());
+            Log.error(logger, errorMessage);
+            Assertions.fail(errorMessage);
+            return null;
+        }
+    }
+
+    public ElementSnapshot getElementSnapshot(By locator, String elementName, Logger logger) {
+        return getElementSnapshot(locator, elementName, Collections.emptyList(), Collections.emptyList(), logger);
+    }
+
+    @SuppressWarnings("unchecked")
+    private ElementSnapshot takeElementSnapshot(WebElement element, List<String> attributes, List<String> cssProperties) {
+        Map<String, Object> state = (Map<String, Object>) Driver.getDriver()
+                .executeScript(ELEMENT_SNAPSHOT_SCRIPT, element, attributes, cssProperties);
+        Map<String, String> attributeValues = new LinkedHashMap<>();
+        ((Map<String, Object>) state.get("attributes")).forEach((name, value) ->
+                attributeValues.put(name, value == null ? null : value.toString()));
+        Map<String, String> cssValues = new LinkedHashMap<>();
+        ((Map<String, Object>) state.get("cssValues")).forEach((name, value) -> cssValues.put(name, String.valueOf(value)));
+        Rectangle rect = new Rectangle(((Number) state.get("x")).intValue(), ((Number) state.get("y")).intValue(),
+                ((Number) state.get("height")).intValue(), ((Number) state.get("width")).intValue());
+        return new ElementSnapshot((String) state.get("tagName"), (String) state.get("text"), attributeValues, cssValues,
+                rect, (Boolean) state.get("displayed"), (Boolean) state.get("enabled"), (Boolean) state.get("selected"));
+    }
+
     /**
-     * Waits for the page to be fully loaded by checking the document ready state.
+     * Waits for the page to be fully loaded and for its fetch/XHR requests to settle, see {@link PageReadiness}.
+     * The time to ready is logged and added to the Extent report. Fails if the document does not finish loading
+     * within PAGE_READY_TIMEOUT, only warns if requests are still in flight by then (e.g. long polling).
      */
     public void waitForPageToLoad(Logger logger) {
+        PageReadiness.Result result;
         try {
-            new WebDriverWait(Driver.getDriver(), Duration.ofSeconds(60))
-                    .until(driver -> ((JavascriptExecutor) driver)
-                            .executeScript("return document.readyState").equals("complete"));
-            Log.info(logger, "Page has been fully loaded");
+            result = PageReadiness.waitUntilReady(Driver.getDriver());
         } catch (Exception e) {
             String errorMessage = "Error while waiting for the page to load: " + e.getMessage();
             Log.error(logger, errorMessage);
             Assertions.fail(errorMessage);
+            return;
+        }
+        if (!result.loaded()) {
+            String errorMessage = String.format("Page [%s] was not loaded within [%d] seconds", result.url(),
+                    PageReadiness.getTimeout().toSeconds());
+            Log.error(logger, errorMessage);
+            Assertions.fail(errorMessage);
+        }
+        if (result.networkIdle()) {
+            Log.info(logger, "Page [{}] is ready in [{}] ms", result.url(), result.elapsed().toMillis());
+        } else {
+            Log.warning(logger, "Page [{}] is loaded but [{}] requests are still in flight after [{}] ms", result.url(),
+                    result.pending(), result.elapsed().toMillis());
+        }
+        RunEvents.emit("page_ready", "url", result.url(), "durationMs", result.elapsed().toMillis(),
+                "networkIdle", result.networkIdle(), "pending", result.pending());
+        if (ConfigProvider.getAsString("isExtentReportRequired").equals("true") && ExtentTestManager.hasTest()) {
+            ExtentTestManager.log(Status.INFO, String.format("Page [%s] time to ready: [%d] ms%s", result.url(),
+                    result.elapsed().toMillis(), result.networkIdle() ? "" : " (requests still in flight)"));
         }
     }
 
@@ -2233,6 +2404,7 @@ public class SeleniumUtils {
      * @param logger              The logger to record information and errors.
      */
     public void switchWindowWithGivenTitle(String requiredWindowTitle, Logger logger) {
+        LocatorCache.invalidate();
         try {
             boolean flag = false;
             for (String handle : Driver.getDriver().getWindowHandles()) {
@@ -2289,8 +2461,7 @@ public class SeleniumUtils {
      */
     public void verifyTextIsPresent(By locator, String expectedText, Logger logger) {
         try {
-            WebElement element = getElement(locator);
-            String actualText = element.getText().trim();
+            String actualText = applyToElement(locator, locator.toString(), logger, WebElement::getText).trim();
             if (actualText.contains(expectedText)) {
                 Log.info(logger, "Verified text is displayed as: [{}]", actualText);
             } else {
@@ -2317,9 +2488,9 @@ public class SeleniumUtils {
      */
     public void waitUntilTextAppears(By locator, String elementName, String text, Logger logger) {
         try {
-            WebElement element = getElement(locator);
             WebDriverWait webDriverWait = new WebDriverWait(Driver.getDriver(), Duration.ofSeconds(60));
-            webDriverWait.until(ExpectedConditions.textToBePresentInElement(element, text));
+            // IMPORTANT: located on every poll, a cached element that went stale would never show the text
+            webDriverWait.until(ExpectedConditions.textToBePresentInElementLocated(locator, text));
             Log.info(logger, "Text [{}] is present in element [{}]", text, elementName);
         } catch (Exception e) {
             String errorMessage = String.format("Exception occurred while waiting for the text [%s] to be present " +
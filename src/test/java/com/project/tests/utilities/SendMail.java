@@ -15,6 +15,7 @@ import java.io.OutputStream;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Map;
 import java.util.Properties;
 
 public class SendMail {
@@ -30,16 +31,21 @@ public class SendMail {
     public static void main(String[] args) {
         if (ConfigProvider.getAsBoolean("sendEmail")) {
             LOGGER.info("Start composing email.");
+            Map<String, String> runSummary = RunEvents.readRunSummary();
+            if (runSummary.isEmpty()) {
+                LOGGER.error("No run summary in [{}], the email is not sent.", RunEvents.getFile());
+                return;
+            }
 
             content = "<html><head></head><body><p style=\"font-size:120%;\">Hi All,\r\n" +
                     " <br><br>\r\n" +
                     "Below are test executions results. <br>\r\n" +
                     "Please click on Smoke link to see the scenarios, detailed steps and any failure screenshots\r\n" +
                     " <br><br>\r\n" +
-                    "Browser Type: <b>" + ExtractTestResultsFromLog.getMavenOptions(SystemVsConfigProp.SystemPropertyVariables.Browser.name()) + "</b><br>\r\n" +
-                    "Environment: <b>" + ExtractTestResultsFromLog.getMavenOptions(SystemVsConfigProp.SystemPropertyVariables.Environment.name()) + "</b><br>\r\n" +
-                    "ApplicationUrl: <a href=" + ExtractTestResultsFromLog.getMavenOptions(SystemVsConfigProp.SystemPropertyVariables.GOOGLEURL.name()) + ">" + ExtractTestResultsFromLog.getMavenOptions(SystemVsConfigProp.SystemPropertyVariables.GOOGLEURL.name()) + "</a><br>\r\n" +
-                    "Deployment Version: <b>" + "ExtractTestResultsFromLog.getDeployedVersion()" + "</b>\r\n" +
+                    "Browser Type: <b>" + runSummary.get(SystemVsConfigProp.SystemPropertyVariables.Browser.name()) + "</b><br>\r\n" +
+                    "Environment: <b>" + runSummary.get(SystemVsConfigProp.SystemPropertyVariables.Environment.name()) + "</b><br>\r\n" +
+                    "ApplicationUrl: <a href=" + runSummary.get(SystemVsConfigProp.SystemPropertyVariables.GOOGLEURL.name()) + ">" + runSummary.get(SystemVsConfigProp.SystemPropertyVariables.GOOGLEURL.name()) + "</a><br>\r\n" +
+                    "Deployment Version: <b>" + runSummary.get(SystemVsConfigProp.SystemPropertyVariables.DeploymentVersion.name()) + "</b>\r\n" +
                     "\r\n</b><br>\r\n\r\n" + "<head>\r\n" +
                     "<style>\r\n#custometrs {\r\nfont-family: Arial, Helvetica, sans-serif;\r\n" +
                     "  border-collapse: collapse;\r\n  width: 50%;\r\n}\r\n\r\n" +
@@ -52,13 +58,13 @@ public class SendMail {
                     "<body>\r\n<table id=\"customers\">\r\n  <tr>\r\n" +
                     "    <th>Module</th>\r\n    <th>#Pass</th>\r\n    <th>#Fail</th>\r\n    <th>#Skipped</th>\r\n    <th>Total Count</th>\r\n  </tr>\r\n" +
                     "<tr>\r\n    <td><b>Smoke</b></a></td>\r\n" +
-                    "    <td style='color:green;'><b>" + ExtractTestResultsFromLog.get("Pass") + "</b></td>\r\n" +
-                    "    <td style='color:red;'><b>" + ExtractTestResultsFromLog.get("Fail") + "</b></td>\r\n" +
-                    "    <td style='color:orange;'><b>" + ExtractTestResultsFromLog.get("Skipped") + "</b></td>\r\n" +
-                    "    <td><b>" + ExtractTestResultsFromLog.get("Total Count") + "</b></td>\r\n  </tr>\r\n  </tr>\r\n" +
+                    "    <td style='color:green;'><b>" + runSummary.get(SystemVsConfigProp.SystemPropertyVariables.PassedTests.name()) + "</b></td>\r\n" +
+                    "    <td style='color:red;'><b>" + runSummary.get(SystemVsConfigProp.SystemPropertyVariables.FailedTests.name()) + "</b></td>\r\n" +
+                    "    <td style='color:orange;'><b>" + runSummary.get(SystemVsConfigProp.SystemPropertyVariables.SkippedTests.name()) + "</b></td>\r\n" +
+                    "    <td><b>" + runSummary.get(SystemVsConfigProp.SystemPropertyVariables.TotalTests.name()) + "</b></td>\r\n  </tr>\r\n  </tr>\r\n" +
                     "</table>\r\n\r\n</body>\r\n<br> \r\n<p style=\"font-size:120%;\">\r\n" +
                     "<b>Build was initiated by: <font color=\"blue\">" + System.getProperty("user.name") + "</font></b>\r\n<br>\r\n" +
-                    "<b>Build Status# : <font color=\"blue\">" + ExtractTestResultsFromLog.get("Build Status") + "</font></b>\r\n<br>\r\n<bt>\r\n" +
+                    "<b>Build Status# : <font color=\"blue\">" + runSummary.get(SystemVsConfigProp.SystemPropertyVariables.BuildStatus.name()) + "</font></b>\r\n<br>\r\n<bt>\r\n" +
                     "\r\nThank you, <br>\r\nAutomation Team</p></body></html>";
             sendEmail();
         }
@@ -0,0 +1,62 @@
+package com.project.tests.utilities;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records every CommonSteps.waitForSeconds call with its caller, so fixed sleeps can be found and replaced
+ * with ConditionWait or WaitEngine. <br>
+ * Enabled with SLEEP_AUDIT in Config.properties (or -DSLEEP_AUDIT=true), the per-caller totals are logged once in @AfterAll.
+ */
+public final class SleepAudit {
+    private static final Logger LOGGER = LogManager.getLogger(SleepAudit.class);
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+    private static final Map<String, SleepStatistics> statistics = new ConcurrentHashMap<>();
+
+    private SleepAudit() {
+    }
+
+    public static boolean isEnabled() {
+        return ConfigProvider.getAsBoolean("SLEEP_AUDIT");
+    }
+
+    /**
+     * Records a fixed sleep. Call it from the sleeping method itself, the caller of that method is recorded.
+     *
+     * @param sleptMillis The time slept.
+     */
+    public static void record(long sleptMillis) {
+        String caller = STACK_WALKER.walk(frames -> frames
+                .skip(2)
+                .findFirst()
+                .map(frame -> frame.getClassName() + "." + frame.getMethodName() + ":" + frame.getLineNumber())
+                .orElse("unknown"));
+        SleepStatistics sleepStatistics = statistics.computeIfAbsent(caller, key -> new SleepStatistics());
+        sleepStatistics.count.increment();
+        sleepStatistics.totalMillis.add(sleptMillis);
+        LOGGER.info("Slept [{}] ms in [{}]", sleptMillis, caller);
+    }
+
+    public static void logSummary() {
+        if (!isEnabled()) {
+            return;
+        }
+        statistics.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, SleepStatistics> entry) ->
+                        entry.getValue().totalMillis.sum()).reversed())
+                .forEach(entry -> LOGGER.info("Sleep [{}] - count: [{}], total: [{}] ms", entry.getKey(),
+                        entry.getValue().count.sum(), entry.getValue().totalMillis.sum()));
+        LOGGER.info("[TotalSleptSeconds] is [{}]", statistics.values().stream()
+                .mapToLong(sleepStatistics -> sleepStatistics.totalMillis.sum()).sum() / 1000.0);
+    }
+
+    private static final class SleepStatistics {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalMillis = new LongAdder();
+    }
+}
@@ -0,0 +1,49 @@
+package com.project.tests.utilities;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures the latency of every Cucumber step, to compare runs with logging on and off (-DLOG_LEVEL=off)
+ * or synchronous and asynchronous logging (-Pasync-logging). <br>
+ * log4j2.properties keeps this logger at INFO, so the summary is logged even when logging is off.
+ */
+public final class StepTimer {
+    private static final Logger LOGGER = LogManager.getLogger(StepTimer.class);
+    private static final ThreadLocal<Long> stepStart = new ThreadLocal<>();
+    private static final LongAdder steps = new LongAdder();
+    private static final LongAdder totalNanos = new LongAdder();
+    private static final AtomicLong maxNanos = new AtomicLong();
+
+    private StepTimer() {
+    }
+
+    public static void startStep() {
+        stepStart.set(System.nanoTime());
+    }
+
+    public static void endStep() {
+        Long start = stepStart.get();
+        if (start == null) {
+            return;
+        }
+        stepStart.remove();
+        long elapsedNanos = System.nanoTime() - start;
+        steps.increment();
+        totalNanos.add(elapsedNanos);
+        maxNanos.accumulateAndGet(elapsedNanos, Math::max);
+    }
+
+    public static void logSummary() {
+        long count = steps.sum();
+        LOGGER.info("[StepCount] is [{}]", count);
+        LOGGER.info("[AvgStepLatencyMs] is [{}]", TimeUnit.NANOSECONDS.toMicros(totalNanos.sum() / Math.max(1, count)) / 1000.0);
+        LOGGER.info("[MaxStepLatencyMs] is [{}]", TimeUnit.NANOSECONDS.toMillis(maxNanos.get()));
+        LOGGER.info("[LogLevel] is [{}], [AsyncLogging] is [{}]", LogManager.getRootLogger().getLevel(),
+                System.getProperty("log4j2.contextSelector", "").endsWith("AsyncLoggerContextSelector"));
+    }
+}
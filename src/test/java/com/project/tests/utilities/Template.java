@@ -0,0 +1,192 @@
+package com.project.tests.utilities;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.Assertions;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Text with {$key} placeholders, e.g. "select * from table1 where name = '{$name}'". <br>
+ * A template is parsed once into literals and keys and cached, rendering is a single pass over them. <br>
+ * Values may contain placeholders themselves, they are rendered the same way and a key that refers back to itself
+ * (directly or through other keys) fails with the whole chain instead of recursing forever. <br>
+ * For SQL, {@link #toSql(Function)} turns every quoted placeholder ('{$key}') into a ? parameter, so values are
+ * bound by the driver instead of being spliced into the query text.
+ */
+public final class Template {
+    private static final Logger LOGGER = LogManager.getLogger(Template.class);
+    private static final String OPEN = "{$";
+    private static final String CLOSE = "}";
+    private static final int MAX_CACHED_TEMPLATES = 10_000;
+    private static final Map<String, Template> templates = new ConcurrentHashMap<>();
+
+    // IMPORTANT: literals has one more item than keys, the text is literals[0] keys[0] literals[1] ... literals[n]
+    private final String[] literals;
+    private final String[] keys;
+
+    private Template(List<String> literals, List<String> keys) {
+        this.literals = literals.toArray(new String[0]);
+        this.keys = keys.toArray(new String[0]);
+    }
+
+    /**
+     * The SQL text with ? for every quoted placeholder and the values to bind, in order.
+     */
+    public record SqlStatement(String sql, List<String> parameters) {
+
+        /**
+         * Binds the parameters as strings.
+         *
+         * @param statement     The statement prepared from {@link #sql()}.
+         * @param nullLiterals  Values bound as SQL NULL, e.g. "null" and "(null)" for replaceNULLInQuery.
+         */
+        public void bind(PreparedStatement statement, List<String> nullLiterals) throws SQLException {
+            for (int i = 0; i < parameters.size(); i++) {
+                String parameter = parameters.get(i);
+                if (nullLiterals.stream().anyMatch(nullLiteral -> nullLiteral.equalsIgnoreCase(parameter))) {
+                    statement.setNull(i + 1, Types.VARCHAR);
+                } else {
+                    statement.setString(i + 1, parameter);
+                }
+            }
+        }
+    }
+
+    /**
+     * Parses the text, or returns the cached template of the same text.
+     *
+     * @param text The text with {$key} placeholders. An opening {$ without a closing } is kept as text.
+     * @return The template.
+     */
+    public static Template compile(String text) {
+        Template template = templates.get(text);
+        if (template == null) {
+            template = parse(text);
+            // IMPORTANT: texts built by concatenation are all different, stop caching instead of growing forever
+            if (templates.size() < MAX_CACHED_TEMPLATES) {
+                templates.put(text, template);
+            }
+        }
+        return template;
+    }
+
+    private static Template parse(String text) {
+        List<String> literals = new ArrayList<>();
+        List<String> keys = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int position = 0;
+        while (position < text.length()) {
+            int openIndex = text.indexOf(OPEN, position);
+            int closeIndex = openIndex < 0 ? -1 : text.indexOf(CLOSE, openIndex + OPEN.length());
+            if (closeIndex < 0) {
+                literal.append(text, position, text.length());
+                break;
+            }
+            literal.append(text, position, openIndex);
+            literals.add(literal.toString());
+            literal.setLength(0);
+            keys.add(text.substring(openIndex + OPEN.length(), closeIndex));
+            position = closeIndex + CLOSE.length();
+        }
+        literals.add(literal.toString());
+        return new Template(literals, keys);
+    }
+
+    public boolean hasPlaceholders() {
+        return keys.length > 0;
+    }
+
+    /**
+     * Replaces every placeholder with its value.
+     *
+     * @param resolver Returns the value of a key, null when there is none.
+     * @return The rendered text.
+     */
+    public String render(Function<String, String> resolver) {
+        if (!hasPlaceholders()) {
+            return literals[0];
+        }
+        StringBuilder builder = new StringBuilder(literals[0].length() * 2);
+        renderTo(builder, resolver, new ArrayDeque<>());
+        return builder.toString();
+    }
+
+    /**
+     * Renders the template as SQL, quoted placeholders ('{$key}') become ? parameters, the others are replaced
+     * in the text (e.g. table names or numbers).
+     *
+     * @param resolver Returns the value of a key, null when there is none.
+     * @return The SQL text and its parameters.
+     */
+    public SqlStatement toSql(Function<String, String> resolver) {
+        if (!hasPlaceholders()) {
+            return new SqlStatement(literals[0], List.of());
+        }
+        StringBuilder builder = new StringBuilder(literals[0].length() * 2);
+        List<String> parameters = new ArrayList<>();
+        boolean isQuoted = false;
+        for (int i = 0; i < keys.length; i++) {
+            String before = literals[i];
+            // the opening quote was already written with the previous parameter's closing quote skipped
+            builder.append(before, isQuoted ? 1 : 0, before.length());
+            isQuoted = before.length() > (isQuoted ? 1 : 0) && before.endsWith("'")
+                    && literals[i + 1].startsWith("'");
+            if (isQuoted) {
+                builder.setLength(builder.length() - 1);
+                builder.append('?');
+                parameters.add(resolve(keys[i], resolver, new ArrayDeque<>()));
+            } else {
+                builder.append(resolve(keys[i], resolver, new ArrayDeque<>()));
+            }
+        }
+        String last = literals[keys.length];
+        builder.append(last, isQuoted ? 1 : 0, last.length());
+        return new SqlStatement(builder.toString(), List.copyOf(parameters));
+    }
+
+    private void renderTo(StringBuilder builder, Function<String, String> resolver, Deque<String> path) {
+        for (int i = 0; i < keys.length; i++) {
+            builder.append(literals[i]);
+            builder.append(resolve(keys[i], resolver, path));
+        }
+        builder.append(literals[keys.length]);
+    }
+
+    private static String resolve(String key, Function<String, String> resolver, Deque<String> path) {
+        if (path.contains(key)) {
+            List<String> chain = new ArrayList<>(path);
+            chain.add(key);
+            String errorMessage = "Placeholder cycle: [" + String.join(" -> ", chain) + "].";
+            LOGGER.error(errorMessage);
+            return Assertions.fail(errorMessage);
+        }
+        String value = resolver.apply(key);
+        if (value == null) {
+            String errorMessage = "Property not found for key: [" + key + "].";
+            LOGGER.error(errorMessage);
+            return Assertions.fail(errorMessage);
+        }
+        // IMPORTANT: plain values (most of them) are not parsed, so data values do not fill the template cache
+        if (!value.contains(OPEN)) {
+            LOGGER.debug("Key [{}] replaced with value [{}].", key, value);
+            return value;
+        }
+        Template valueTemplate = compile(value);
+        path.addLast(key);
+        StringBuilder builder = new StringBuilder(value.length() * 2);
+        valueTemplate.renderTo(builder, resolver, path);
+        path.removeLast();
+        LOGGER.debug("Key [{}] replaced with value [{}].", key, builder);
+        return builder.toString();
+    }
+}
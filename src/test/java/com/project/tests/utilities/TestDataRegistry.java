@@ -0,0 +1,128 @@
+package com.project.tests.utilities;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.FormulaEvaluator;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.junit.jupiter.api.Assertions;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory index of the Excel test data. <br>
+ * - A workbook is read once per run, all its sheets at the same time, the first time any of them is used
+ * (or in @BeforeAll for the files of TEST_DATA_FILES) <br>
+ * - Every sheet is indexed by row flag: the first row (below the header) with a cell equal to the flag <br>
+ * - After that, lookups are map reads, safe from parallel scenarios without any file I/O
+ */
+public final class TestDataRegistry {
+    private static final Logger LOGGER = LogManager.getLogger(TestDataRegistry.class);
+    private static final Map<Path, Map<String, SheetIndex>> workbooks = new ConcurrentHashMap<>();
+
+    private TestDataRegistry() {
+    }
+
+    private record SheetIndex(Map<String, Integer> columnIndex, Map<String, List<String>> rowsByFlag) {
+    }
+
+    /**
+     * Loads the workbooks listed in TEST_DATA_FILES (comma separated paths), so the first scenarios do not pay for it.
+     */
+    public static void preload() {
+        ConfigProvider.getAsList("TEST_DATA_FILES").forEach(file -> getWorkbook(Path.of(file)));
+    }
+
+    /**
+     * Returns the row of the sheet that contains the row flag.
+     *
+     * @param filePath  The path of the .xls or .xlsx file.
+     * @param sheetName The sheet name.
+     * @param rowFlag   A value of the row, usually the first column.
+     * @return The row, fails if the file, the sheet or the flag does not exist.
+     */
+    public static TestDataRow getRow(String filePath, String sheetName, String rowFlag) {
+        SheetIndex sheetIndex = getWorkbook(Path.of(filePath)).get(sheetName);
+        if (sheetIndex == null) {
+            String errorMessage = "Sheet [" + sheetName + "] not found in [" + filePath + "].";
+            LOGGER.error(errorMessage);
+            return Assertions.fail(errorMessage);
+        }
+        List<String> values = sheetIndex.rowsByFlag().get(rowFlag);
+        if (values == null) {
+            String errorMessage = "Row flag [" + rowFlag + "] not found in sheet [" + sheetName + "] of [" +
+                    filePath + "].";
+            LOGGER.error(errorMessage);
+            return Assertions.fail(errorMessage);
+        }
+        return new TestDataRow(rowFlag, sheetIndex.columnIndex(), values);
+    }
+
+    private static Map<String, SheetIndex> getWorkbook(Path filePath) {
+        Path key = filePath.toAbsolutePath().normalize();
+        Map<String, SheetIndex> sheets = workbooks.get(key);
+        return sheets != null ? sheets : workbooks.computeIfAbsent(key, TestDataRegistry::load);
+    }
+
+    private static Map<String, SheetIndex> load(Path filePath) {
+        if (!Files.isReadable(filePath)) {
+            String errorMessage = "Test data file [" + filePath + "] not found.";
+            LOGGER.error(errorMessage);
+            return Assertions.fail(errorMessage);
+        }
+        long start = System.nanoTime();
+        Map<String, SheetIndex> sheets = new HashMap<>();
+        try (Workbook workbook = WorkbookFactory.create(filePath.toFile(), null, true)) {
+            DataFormatter dataFormatter = new DataFormatter();
+            FormulaEvaluator formulaEvaluator = workbook.getCreationHelper().createFormulaEvaluator();
+            for (Sheet sheet : workbook) {
+                sheets.put(sheet.getSheetName(), index(sheet, dataFormatter, formulaEvaluator));
+            }
+        } catch (IOException e) {
+            String errorMessage = "Failed to read the test data file [" + filePath + "]. Exception: " + e.getMessage();
+            LOGGER.error(errorMessage);
+            return Assertions.fail(errorMessage);
+        }
+        LOGGER.info("Loaded [{}] sheets from [{}] in [{}] ms", sheets.size(), filePath,
+                (System.nanoTime() - start) / 1_000_000);
+        return Collections.unmodifiableMap(sheets);
+    }
+
+    private static SheetIndex index(Sheet sheet, DataFormatter dataFormatter, FormulaEvaluator formulaEvaluator) {
+        Map<String, Integer> columnIndex = new LinkedHashMap<>();
+        Map<String, List<String>> rowsByFlag = new HashMap<>();
+        for (Row row : sheet) {
+            List<String> values = new ArrayList<>(Math.max(row.getLastCellNum(), 0));
+            for (int column = 0; column < row.getLastCellNum(); column++) {
+                Cell cell = row.getCell(column, Row.MissingCellPolicy.RETURN_BLANK_AS_NULL);
+                values.add(cell == null ? "" : dataFormatter.formatCellValue(cell, formulaEvaluator));
+            }
+            if (row.getRowNum() == 0) {
+                for (int column = 0; column < values.size(); column++) {
+                    columnIndex.putIfAbsent(values.get(column), column);
+                }
+                continue;
+            }
+            List<String> rowValues = List.copyOf(values);
+            for (String value : rowValues) {
+                if (!value.isEmpty()) {
+                    rowsByFlag.putIfAbsent(value, rowValues);
+                }
+            }
+        }
+        return new SheetIndex(Collections.unmodifiableMap(columnIndex), Collections.unmodifiableMap(rowsByFlag));
+    }
+}
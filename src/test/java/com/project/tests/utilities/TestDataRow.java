@@ -0,0 +1,53 @@
+package com.project.tests.utilities;
+
+import org.junit.jupiter.api.Assertions;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One row of a test data sheet. The column index is shared by all the rows of the sheet, the values are
+ * the formatted cell values in column order (empty for blank cells).
+ *
+ * @param rowFlag     The flag the row was looked up with.
+ * @param columnIndex The position of every header of the sheet.
+ * @param values      The values of the row.
+ */
+public record TestDataRow(String rowFlag, Map<String, Integer> columnIndex, List<String> values) {
+
+    /**
+     * @return The value of the column, null if the sheet has no such header.
+     */
+    public String get(String column) {
+        Integer index = columnIndex.get(column);
+        return index == null ? null : get(index);
+    }
+
+    public String get(int index) {
+        return index < values.size() ? values.get(index) : "";
+    }
+
+    public int getAsInt(String column) {
+        String value = get(column);
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NullPointerException | NumberFormatException e) {
+            return Assertions.fail("Test data [" + rowFlag + "] column [" + column + "] = [" + value +
+                    "] is not a whole number");
+        }
+    }
+
+    public boolean getAsBoolean(String column) {
+        return Boolean.parseBoolean(get(column));
+    }
+
+    /**
+     * @return A new map of header to value, in column order.
+     */
+    public Map<String, String> asMap() {
+        Map<String, String> map = new LinkedHashMap<>();
+        columnIndex.forEach((column, index) -> map.put(column, get(index)));
+        return map;
+    }
+}
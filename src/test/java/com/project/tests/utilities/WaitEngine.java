@@ -0,0 +1,138 @@
+package com.project.tests.utilities;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.ElementClickInterceptedException;
+import org.openqa.selenium.ElementNotInteractableException;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Central wait engine used by SeleniumUtils instead of a new FluentWait per lookup. <br>
+ * - Polls every 25 ms at first and doubles the interval up to POLLING_INTERVAL (ms) <br>
+ * - Default timeouts come from EXPLICIT_WAIT (single element) and FLUENT_WAIT (element lists), in seconds <br>
+ * - A locator can get its own timeout with {@link #setTimeout(By, Duration)} <br>
+ * - Every wait is timed, the per-locator statistics are logged once in @AfterAll <br>
+ * IMPORTANT: the driver implicit wait must stay 0, otherwise every poll blocks for the implicit wait on its own.
+ */
+public final class WaitEngine {
+    private static final Logger LOGGER = LogManager.getLogger(WaitEngine.class);
+    private static final Duration INITIAL_POLLING_INTERVAL = Duration.ofMillis(25);
+    private static final Map<By, Duration> locatorTimeouts = new ConcurrentHashMap<>();
+    private static final Map<String, WaitStatistics> statistics = new ConcurrentHashMap<>();
+
+    private WaitEngine() {
+    }
+
+    public static Duration getExplicitWait() {
+        return ConfigProvider.getAsDuration("EXPLICIT_WAIT", ChronoUnit.SECONDS, Duration.ofSeconds(20));
+    }
+
+    public static Duration getFluentWait() {
+        return ConfigProvider.getAsDuration("FLUENT_WAIT", ChronoUnit.SECONDS, Duration.ofSeconds(5));
+    }
+
+    public static Duration getMaxPollingInterval() {
+        return ConfigProvider.getAsDuration("POLLING_INTERVAL", ChronoUnit.MILLIS, Duration.ofMillis(500));
+    }
+
+    public static void setTimeout(By locator, Duration timeout) {
+        locatorTimeouts.put(locator, timeout);
+    }
+
+    public static Duration getTimeout(By locator, Duration defaultTimeout) {
+        return locatorTimeouts.getOrDefault(locator, defaultTimeout);
+    }
+
+    /**
+     * Waits until the condition returns a value that is neither null nor false.
+     * NoSuchElement, StaleElementReference, ElementNotInteractable and ElementClickIntercepted exceptions
+     * are ignored while polling.
+     *
+     * @param driver      The driver passed to the condition.
+     * @param condition   The condition to evaluate.
+     * @param timeout     The maximum time to wait.
+     * @param description A description of what is awaited (usually the locator), used for statistics and errors.
+     * @return The first value returned by the condition that is neither null nor false.
+     * @throws TimeoutException If the condition is not met within the timeout.
+     */
+    public static <T> T until(WebDriver driver, Function<WebDriver, T> condition, Duration timeout, String description) {
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        long pollingInterval = INITIAL_POLLING_INTERVAL.toMillis();
+        long maxPollingInterval = getMaxPollingInterval().toMillis();
+        RuntimeException lastException = null;
+        while (true) {
+            try {
+                T value = condition.apply(driver);
+                if (value != null && !Boolean.FALSE.equals(value)) {
+                    record(description, start, false);
+                    return value;
+                }
+            } catch (NoSuchElementException | StaleElementReferenceException | ElementNotInteractableException |
+                     ElementClickInterceptedException e) {
+                lastException = e;
+            }
+            long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remainingMillis <= 0) {
+                record(description, start, true);
+                throw new TimeoutException("Timed out after [" + timeout.toMillis() + "] ms waiting for [" +
+                        description + "]", lastException);
+            }
+            try {
+                Thread.sleep(Math.min(pollingInterval, remainingMillis));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new TimeoutException("Interrupted while waiting for [" + description + "]", e);
+            }
+            pollingInterval = Math.min(pollingInterval * 2, maxPollingInterval);
+        }
+    }
+
+    private static void record(String description, long start, boolean timedOut) {
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        WaitStatistics waitStatistics = statistics.computeIfAbsent(description, key -> new WaitStatistics());
+        waitStatistics.count.increment();
+        waitStatistics.totalMillis.add(elapsedMillis);
+        waitStatistics.maxMillis.accumulateAndGet(elapsedMillis, Math::max);
+        if (timedOut) {
+            waitStatistics.timeouts.increment();
+        }
+        LOGGER.debug("Waited [{}] ms for [{}], timed out: [{}]", elapsedMillis, description, timedOut);
+        RunEvents.emit("wait", "description", description, "durationMs", elapsedMillis, "timedOut", timedOut);
+    }
+
+    public static void logSummary() {
+        statistics.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, WaitStatistics> entry) ->
+                        entry.getValue().totalMillis.sum()).reversed())
+                .forEach(entry -> {
+                    WaitStatistics waitStatistics = entry.getValue();
+                    long count = waitStatistics.count.sum();
+                    LOGGER.info("Wait [{}] - count: [{}], avg: [{}] ms, max: [{}] ms, total: [{}] ms, timeouts: [{}]",
+                            entry.getKey(), count, waitStatistics.totalMillis.sum() / Math.max(1, count),
+                            waitStatistics.maxMillis.get(), waitStatistics.totalMillis.sum(),
+                            waitStatistics.timeouts.sum());
+                });
+    }
+
+    private static final class WaitStatistics {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalMillis = new LongAdder();
+        private final AtomicLong maxMillis = new AtomicLong();
+        private final LongAdder timeouts = new LongAdder();
+    }
+}
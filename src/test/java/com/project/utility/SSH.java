@@ -4,14 +4,18 @@ import com.jcraft.jsch.ChannelExec;
 import com.jcraft.jsch.JSch;
 import com.jcraft.jsch.Session;
 import com.project.pages.CommonSteps;
+import com.project.tests.utilities.ConditionWait;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.*;
+import java.time.Duration;
 
 public class SSH extends CommonSteps {
     private static final Logger LOGGER = LogManager.getLogger(SSH.class);
+    private static final ConditionWait.PollStrategy OUTPUT_POLLING =
+            ConditionWait.PollStrategy.backoff(Duration.ofMillis(50), Duration.ofSeconds(1));
 
     public static String savePrivateKey( String privateKey) {
         String path = "pk.pk";
@@ -64,7 +68,7 @@ public class SSH extends CommonSteps {
                     output.append(new String(buffer, 0, i));
                 }
                 while (errorStream.available() > 0) {
-                    int i = inputStream.read(buffer, 0, 1024);
+                    int i = errorStream.read(buffer, 0, 1024);
                     if (i < 0) {
                         break;
                     }
@@ -74,7 +78,9 @@ public class SSH extends CommonSteps {
                     LOGGER.info("Exist status is: [" + channel.getExitStatus() +"]");
                     break;
                 }
-                waitForSeconds(10);
+                // Wake up as soon as there is output to read or the command is done, at most every 10 seconds as before
+                ConditionWait.isMet(() -> channel.isClosed() || hasAvailableBytes(inputStream) ||
+                        hasAvailableBytes(errorStream), Duration.ofSeconds(10), OUTPUT_POLLING);
             }
 
             // Disconnect from the channel and session
@@ -88,4 +94,13 @@ public class SSH extends CommonSteps {
         }
         return output.toString();
     }
+
+    private static boolean hasAvailableBytes(InputStream inputStream) {
+        try {
+            return inputStream.available() > 0;
+        } catch (IOException e) {
+            // Let the read loop surface the exception
+            return true;
+        }
+    }
 }
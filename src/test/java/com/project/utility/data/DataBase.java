@@ -2,14 +2,23 @@ package com.project.utility.data;
 
 import com.project.pages.CommonSteps;
 import com.project.testData.TestData;
+import com.project.tests.utilities.EnvironmentResolver;
+import com.project.tests.utilities.RunEvents;
+import com.project.tests.utilities.RuntimeProperties;
+import com.project.tests.utilities.Template;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.junit.jupiter.api.Assertions;
 
 import java.sql.*;
 import java.util.Date;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.IntStream;
 
 public class DataBase extends CommonSteps {
+    private static final Logger LOGGER = LogManager.getLogger(DataBase.class);
+    private static final List<String> NULL_LITERALS = List.of("null", "(null)");
     public enum DatabaseType {
         CloudStage(1), CloudStage2(2), CloudTest(3), CloudTest2(4), PROD(5), CloudDev(6), CloudDocker(7);
         public final int value;
@@ -21,7 +30,7 @@ public class DataBase extends CommonSteps {
 
     public static DatabaseType getDatabaseType() {
         try {
-            return switch (System.getProperty("Environment").toUpperCase()) {
+            return switch (EnvironmentResolver.getEnvironment().toUpperCase()) {
                 case "CLOUDSTAGE" -> DatabaseType.CloudStage;
                 case "CLOUDSTAGE2" -> DatabaseType.CloudStage2;
                 case "CLOUDTEST" -> DatabaseType.CloudTest;
@@ -42,7 +51,7 @@ public class DataBase extends CommonSteps {
 
     public static String getElasticSearchHostName() {
         try {
-            return switch (System.getProperty("Environment").toUpperCase()) {
+            return switch (EnvironmentResolver.getEnvironment().toUpperCase()) {
                 case "CLOUDSTAGE" -> "opa-stg-es-http.az-stg.optumpay.com";
                 case "CLOUDSTAGE2" -> "opa-stg-es-http.az-stg2.optumpay.com";
                 case "CLOUDTEST" -> "opa-stg-es-http.az-test.optumpay.com";
@@ -127,9 +136,10 @@ public class DataBase extends CommonSteps {
     }
 
     public static List<Map<String, String>> select(String selectQuery) {
-        selectQuery = replaceArgumentsWithRunTimeProperties(selectQuery);
-        System.out.println("selectQuery: " + selectQuery);
-        Statement statement = null;
+        long start = System.nanoTime();
+        Template.SqlStatement sqlStatement = Template.compile(selectQuery).toSql(RuntimeProperties::get);
+        LOGGER.debug("selectQuery: [{}] parameters: {}", sqlStatement.sql(), sqlStatement.parameters());
+        PreparedStatement statement = null;
         ResultSet resultSet;
         String exception = null;
         List<Map<String, String>> response = null;
@@ -137,8 +147,9 @@ public class DataBase extends CommonSteps {
             if (getDatabaseType() == null) {
                 Assertions.fail("getDatabaseType() returns null");
             }
-            statement = getConnection(getDatabaseType()).createStatement();
-            resultSet = statement.executeQuery(selectQuery);
+            statement = getConnection(getDatabaseType()).prepareStatement(sqlStatement.sql());
+            sqlStatement.bind(statement, List.of());
+            resultSet = statement.executeQuery();
             response = convertResultSetToListOfMaps(resultSet);
         } catch (SQLException e) {
             exception = e.getMessage();
@@ -154,6 +165,7 @@ public class DataBase extends CommonSteps {
             }
         }
         closeConnection();
+        recordQuery("select", start, response == null ? 0 : response.size(), response == null);
         if (response == null) {
             Assertions.fail("select() method throws Exception: " + exception);
         }
@@ -186,22 +198,29 @@ public class DataBase extends CommonSteps {
      */
 
     public static int update(String updateQuery) {
+        long start = System.nanoTime();
         Date startDate = new Date();
-        Statement statement = null;
+        PreparedStatement statement = null;
         int rows = 0;
         try {
             if (getDatabaseType() == null) {
                 Assertions.fail("getDatabaseType() returns null");
             }
-            statement = getConnection(getDatabaseType()).createStatement();
-            updateQuery = replaceArgumentsWithRunTimeProperties(updateQuery);
-            if (getRunTimeProperty("replaceNULLInQuery") != null && getRunTimeProperty("replaceNULLInQuery").equalsIgnoreCase("true")) {
-                if (updateQuery.contains("'(null)'") || updateQuery.contains("'(NULL)'") || updateQuery.contains("'null'") || updateQuery.contains("'NULL'")) {
-                    updateQuery = updateQuery.replace("'(null)'", "NULL").replace("'(NULL)'", "NULL").replace("'null'", "NULL").replace("'NULL'", "NULL");
+            Template.SqlStatement sqlStatement = Template.compile(updateQuery).toSql(RuntimeProperties::get);
+            String sql = sqlStatement.sql();
+            List<String> nullLiterals = List.of();
+            // IMPORTANT: replaceNULLInQuery turns the quoted (null) and null values into SQL NULL
+            if ("true".equalsIgnoreCase(RuntimeProperties.get("replaceNULLInQuery"))) {
+                nullLiterals = NULL_LITERALS;
+                for (String nullLiteral : NULL_LITERALS) {
+                    sql = sql.replace("'" + nullLiteral + "'", "NULL")
+                            .replace("'" + nullLiteral.toUpperCase() + "'", "NULL");
                 }
             }
-            System.out.println("Executing the update query: " + updateQuery);
-            rows = statement.executeUpdate(updateQuery);
+            LOGGER.debug("Executing the update query: [{}] parameters: {}", sql, sqlStatement.parameters());
+            statement = getConnection(getDatabaseType()).prepareStatement(sql);
+            sqlStatement.bind(statement, nullLiterals);
+            rows = statement.executeUpdate();
         } catch (SQLException e) {
             System.out.println("update() method throws Exception: " + e.getMessage());
         } finally {
@@ -223,64 +242,55 @@ public class DataBase extends CommonSteps {
         Date endDate = new Date();
         double timeDifference = (endDate.getTime() - startDate.getTime()) / 1000.00;
         System.out.println("It took [" + timeDifference + "] seconds to run this query");
+        recordQuery("update", start, rows, false);
         return rows;
     }
 
     public static void delete(List<String> deleteQueries) {
-        Statement statement = null;
-        boolean status = true;
-        String exceptionMessage = null;
-        try {
-            if (getDatabaseType() == null) {
-                Assertions.fail("getDatabaseType() returns null");
-            }
-            statement = getConnection(getDatabaseType()).createStatement();
-            for (String deleteQuery : deleteQueries) {
-                deleteQuery = replaceArgumentsWithRunTimeProperties(deleteQuery);
-                System.out.println("Adding delete query [" + deleteQuery + "] to batch, to be deleted.");
-                statement.addBatch(deleteQuery);
-            }
-            int[] results = statement.executeBatch();
-            System.out.println("Deleted rows: [" + IntStream.of(results).sum() + "]");
-        } catch (SQLException e) {
-            exceptionMessage = e.getMessage();
-            System.out.println("batch delete() method throws Exception: " + exceptionMessage);
-            status = false;
-        } finally {
-            if (statement != null) {
-                try {
-                    statement.close();
-                    System.out.println("Statement closed.");
-                } catch (SQLException e) {
-                    System.out.println("batch delete() method throws Exception: " + e.getMessage());
-                }
-            }
-        }
-        closeConnection();
-        if (!status) {
-            Assertions.fail("Unable to create Connection with database. Exception : " + exceptionMessage);
-        }
+        executeBatch("delete", deleteQueries);
     }
 
     public static void insert(List<String> insertQueries) {
-        Statement statement = null;
+        executeBatch("insert", insertQueries);
+    }
+
+    /**
+     * Runs the queries in order, consecutive queries with the same SQL text are sent as one PreparedStatement batch.
+     */
+    private static void executeBatch(String operation, List<String> queries) {
+        long start = System.nanoTime();
+        int rows = 0;
+        PreparedStatement statement = null;
         boolean status = true;
         String exceptionMessage = null;
         try {
             if (getDatabaseType() == null) {
                 Assertions.fail("getDatabaseType() returns null");
             }
-            statement = getConnection(getDatabaseType()).createStatement();
-            for (String insertQuery : insertQueries) {
-                insertQuery = replaceArgumentsWithRunTimeProperties(insertQuery);
-                System.out.println("Adding insert query [" + insertQuery + "] to batch, to be inserted.");
-                statement.addBatch(insertQuery);
+            Connection connection = getConnection(getDatabaseType());
+            String batchSql = null;
+            for (String query : queries) {
+                Template.SqlStatement sqlStatement = Template.compile(query).toSql(RuntimeProperties::get);
+                if (!sqlStatement.sql().equals(batchSql)) {
+                    if (statement != null) {
+                        rows += IntStream.of(statement.executeBatch()).sum();
+                        statement.close();
+                    }
+                    statement = connection.prepareStatement(sqlStatement.sql());
+                    batchSql = sqlStatement.sql();
+                }
+                sqlStatement.bind(statement, List.of());
+                statement.addBatch();
+                LOGGER.debug("Adding {} query [{}] parameters: {} to batch.", operation, sqlStatement.sql(),
+                        sqlStatement.parameters());
+            }
+            if (statement != null) {
+                rows += IntStream.of(statement.executeBatch()).sum();
             }
-            int[] results = statement.executeBatch();
-            System.out.println("Inserted rows: [" + IntStream.of(results).sum() + "]");
+            System.out.println("Batch " + operation + " rows: [" + rows + "]");
         } catch (SQLException e) {
             exceptionMessage = e.getMessage();
-            System.out.println("batch insert() method throws Exception: " + exceptionMessage);
+            System.out.println("batch " + operation + "() method throws Exception: " + exceptionMessage);
             status = false;
         } finally {
             if (statement != null) {
@@ -288,16 +298,22 @@ public class DataBase extends CommonSteps {
                     statement.close();
                     System.out.println("Statement closed.");
                 } catch (SQLException e) {
-                    System.out.println("batch delete() method throws Exception: " + e.getMessage());
+                    System.out.println("batch " + operation + "() method throws Exception: " + e.getMessage());
                 }
             }
         }
         closeConnection();
+        recordQuery(operation, start, rows, !status);
         if (!status) {
             Assertions.fail("Unable to create Connection with database. Exception : " + exceptionMessage);
         }
     }
 
+    private static void recordQuery(String operation, long start, int rows, boolean failed) {
+        RunEvents.emit("db_query", "operation", operation, "rows", rows, "failed", failed,
+                "durationMs", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
     public static List<Map<String, String>> convertResultSetToListOfMaps(ResultSet resultSet) throws SQLException {
         // Convert the ResultSet into a HashMap
         List<Map<String, String>> listOfMaps = new ArrayList<>();
@@ -6,6 +6,7 @@ import com.aventstack.extentreports.reporter.configuration.Protocol;
 import com.aventstack.extentreports.reporter.configuration.Theme;
 
 import java.io.File;
+import java.nio.file.Path;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.logging.Logger;
@@ -19,6 +20,9 @@ public class ExtentConfiguration {
     private static final String TIME_STAMP = new SimpleDateFormat("dd.MM.yyyy.HH.mm").format(new Date());
     private static final String REPORT_NAME = "ExtentReport_" + TIME_STAMP + "_" + Thread.currentThread().threadId() + ".html";
     private static final String EXTENT_REPORTS_PATH = EXTENT_REPORT_FOLDER + File.separator + REPORT_NAME;
+    // IMPORTANT: the pid keeps two runs started in the same minute from appending to one journal
+    private static final Path JOURNAL_PATH = Path.of(EXTENT_REPORT_FOLDER, "journal",
+            REPORT_NAME.replace(".html", "_" + ProcessHandle.current().pid() + ".ndjson"));
 
     private ExtentConfiguration() {
     }
@@ -27,6 +31,20 @@ public class ExtentConfiguration {
 //        return EXTENT_REPORTS_PATH;
 //    }
 
+    /**
+     * @return The HTML report of this run.
+     */
+    public static Path getReportPath() {
+        return Path.of(EXTENT_REPORTS_PATH);
+    }
+
+    /**
+     * @return The Extent journal of this run, see ExtentJournal.
+     */
+    public static Path getJournalPath() {
+        return JOURNAL_PATH;
+    }
+
     public static ExtentReports getInstance() {
         if (extent == null) {
             createReportFolder();
@@ -45,9 +63,16 @@ public class ExtentConfiguration {
     }
 
     public static ExtentSparkReporter initHtmlReporter() {
-        ExtentSparkReporter htmlReporter = new ExtentSparkReporter(EXTENT_REPORTS_PATH);
+        return initHtmlReporter(getReportPath());
+    }
+
+    /**
+     * @param reportPath The HTML file to write, its name is the document title.
+     */
+    public static ExtentSparkReporter initHtmlReporter(Path reportPath) {
+        ExtentSparkReporter htmlReporter = new ExtentSparkReporter(reportPath.toString());
         htmlReporter.config().setTheme(Theme.DARK);
-        htmlReporter.config().setDocumentTitle(REPORT_NAME);
+        htmlReporter.config().setDocumentTitle(reportPath.getFileName().toString());
         htmlReporter.config().setEncoding("utf-8");
         htmlReporter.config().setReportName("Execution-Status");
 //        htmlReporter.config().setCss("css-string");
@@ -0,0 +1,180 @@
+package com.project.utility.extentreports;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.MediaEntityBuilder;
+import com.aventstack.extentreports.Status;
+import com.aventstack.extentreports.model.Log;
+import com.aventstack.extentreports.model.Test;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.tests.utilities.ConfigProvider;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * Append-only journal of the finished Extent tests, one JSON object per scenario (name, description, start and end
+ * time, steps with their time). <br>
+ * - Enabled with EXTENT_JOURNAL, ExtentTestManager appends every scenario when it ends and drops it from
+ * the in-memory report, so the heap only holds the running scenarios <br>
+ * - The HTML report is rendered from the journal in @AfterAll, and every EXTENT_FLUSH_INTERVAL seconds when it
+ * grew. After a crash it can be rendered with {@link #main(String[])} <br>
+ * - A line is flushed as soon as it is written, a killed run loses at most the running scenarios
+ */
+public final class ExtentJournal {
+    private static final Logger LOGGER = Logger.getLogger(ExtentJournal.class.getName());
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static BufferedWriter writer;
+
+    private ExtentJournal() {
+    }
+
+    public static boolean isEnabled() {
+        return ConfigProvider.getAsBoolean("EXTENT_JOURNAL");
+    }
+
+    /**
+     * Appends the test with all its steps.
+     */
+    public static synchronized void append(ExtentTest test) {
+        Test model = test.getModel();
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("name", model.getName());
+        line.put("description", model.getDescription());
+        line.put("startTime", model.getStartTime().getTime());
+        line.put("endTime", model.getEndTime().getTime());
+        List<Map<String, Object>> steps = new ArrayList<>();
+        for (Log log : model.getLogs()) {
+            Map<String, Object> step = new LinkedHashMap<>();
+            step.put("status", log.getStatus().name());
+            step.put("details", log.getDetails());
+            step.put("timestamp", log.getTimestamp().getTime());
+            if (log.getMedia() != null) {
+                step.put("media", log.getMedia().getPath());
+            }
+            steps.add(step);
+        }
+        line.put("steps", steps);
+        try {
+            if (writer == null) {
+                Path journal = ExtentConfiguration.getJournalPath();
+                Files.createDirectories(journal.getParent());
+                writer = Files.newBufferedWriter(journal, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                        StandardOpenOption.APPEND);
+            }
+            writer.write(OBJECT_MAPPER.writeValueAsString(line));
+            writer.newLine();
+            writer.flush();
+        } catch (IOException e) {
+            LOGGER.warning("Failed to journal the test [" + model.getName() + "]: " + e.getMessage());
+        }
+    }
+
+    public static synchronized void close() {
+        if (writer != null) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                LOGGER.warning("Failed to close the Extent journal: " + e.getMessage());
+            }
+            writer = null;
+        }
+    }
+
+    /**
+     * Renders the HTML report of the journal, replacing the previous one. It does not lock the journal, a line
+     * still being appended is skipped.
+     *
+     * @param journal The journal file.
+     * @param report  The HTML file to write.
+     */
+    public static void render(Path journal, Path report) {
+        if (!Files.isReadable(journal)) {
+            return;
+        }
+        long start = System.nanoTime();
+        ExtentReports extentReports = new ExtentReports();
+        extentReports.attachReporter(ExtentConfiguration.initHtmlReporter(report));
+        int tests = 0;
+        try (BufferedReader reader = Files.newBufferedReader(journal, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank() && addTest(extentReports, line)) {
+                    tests++;
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.warning("Failed to read the Extent journal [" + journal + "]: " + e.getMessage());
+            return;
+        }
+        extentReports.flush();
+        LOGGER.info("Rendered [" + tests + "] tests from [" + journal + "] to [" + report + "] in [" +
+                (System.nanoTime() - start) / 1_000_000 + "] ms");
+    }
+
+    private static boolean addTest(ExtentReports extentReports, String line) {
+        JsonNode testNode;
+        try {
+            testNode = OBJECT_MAPPER.readTree(line);
+        } catch (JsonProcessingException e) {
+            // IMPORTANT: the last line may still be being written
+            LOGGER.warning("Skipping a malformed Extent journal line.");
+            return false;
+        }
+        ExtentTest test = extentReports.createTest(testNode.path("name").asText(),
+                testNode.path("description").asText());
+        for (JsonNode stepNode : testNode.path("steps")) {
+            Status status = Status.valueOf(stepNode.path("status").asText(Status.INFO.name()));
+            String details = stepNode.path("details").asText();
+            if (stepNode.hasNonNull("media")) {
+                test.log(status, details, MediaEntityBuilder.createScreenCaptureFromPath(
+                        stepNode.get("media").asText()).build());
+            } else {
+                test.log(status, details);
+            }
+            if (stepNode.hasNonNull("timestamp")) {
+                List<Log> logs = test.getModel().getLogs();
+                logs.get(logs.size() - 1).setTimestamp(new Date(stepNode.get("timestamp").asLong()));
+            }
+        }
+        // IMPORTANT: after the steps, every logged step moves the end time to now
+        Test model = test.getModel();
+        if (testNode.hasNonNull("startTime")) {
+            model.setStartTime(new Date(testNode.get("startTime").asLong()));
+        }
+        if (testNode.hasNonNull("endTime")) {
+            model.setEndTime(new Date(testNode.get("endTime").asLong()));
+        }
+        return true;
+    }
+
+    /**
+     * Renders the report of a journal, e.g. the one of a run that was killed. The report is written to the report
+     * folder the journal folder is in (AutomationReports), where the screenshot paths of the steps are resolved,
+     * with the name of the journal and the .html extension.
+     *
+     * @param args The journal file.
+     */
+    public static void main(String[] args) {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: ExtentJournal <journal file>");
+        }
+        Path journal = Path.of(args[0]).toAbsolutePath();
+        String reportName = journal.getFileName().toString().replaceFirst("\\.ndjson$", "") + ".html";
+        Path reportFolder = journal.getParent().getParent();
+        render(journal, (reportFolder != null ? reportFolder : journal.getParent()).resolve(reportName));
+    }
+}
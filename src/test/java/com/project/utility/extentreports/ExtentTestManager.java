@@ -2,42 +2,291 @@ package com.project.utility.extentreports;
 
 import com.aventstack.extentreports.ExtentReports;
 import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.MediaEntityBuilder;
+import com.aventstack.extentreports.Status;
+import com.aventstack.extentreports.model.Log;
+import com.aventstack.extentreports.model.Media;
+import com.aventstack.extentreports.model.Test;
+import com.project.tests.utilities.ConfigProvider;
 
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Date;
+import java.util.List;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
 
+/**
+ * Extent test of every running scenario. <br>
+ * - The scenario report lives in a ThreadLocal set by {@link #startTest(String, String)}, lookups take no lock <br>
+ * - Steps logged with {@link #log(Status, String, Media)} are queued in a lock-free queue of the scenario <br>
+ * - {@link #endTest()} creates the ExtentTest and replays the queued steps in one batch, so ExtentReports is only
+ * touched once per scenario instead of once per step. The test and its steps keep the times they happened at <br>
+ * - With EXTENT_JOURNAL the ended test is appended to the ExtentJournal and removed from ExtentReports <br>
+ * - The report is written every EXTENT_FLUSH_INTERVAL seconds (0 = only in @AfterAll), a reloaded interval
+ * reschedules the next write. With EXTENT_JOURNAL it is rendered from the journal on the flush thread, only when the
+ * journal grew since the last render
+ */
 public class ExtentTestManager {
+    private static final Logger LOGGER = Logger.getLogger(ExtentTestManager.class.getName());
+
     private ExtentTestManager() {
     }
 
-    private static final Map<Integer, ExtentTest> extentTestMap = new HashMap<>();
-    private static final Set<Integer> extentThreadList = new HashSet<>();
-    private static ExtentReports extent;
+    private static final ThreadLocal<ScenarioReport> currentScenario = new ThreadLocal<>();
+    private static final Set<ScenarioReport> openScenarios = ConcurrentHashMap.newKeySet();
+    private static volatile ExtentReports extent;
+    private static final ConfigProvider.ConfigChangeListener flushIntervalListener =
+            (previous, current, changedKeys) -> {
+        if (changedKeys.contains("EXTENT_FLUSH_INTERVAL")) {
+            scheduleFlush();
+        }
+    };
+    private static ScheduledExecutorService flushScheduler;
+    private static ScheduledFuture<?> flushTask;
+    private static final Object renderLock = new Object();
+    private static long renderedJournalSize = -1;
 
-    public static synchronized ExtentTest getTest() {
-        return extentTestMap.get(getCurrentThread());
+    private record StepEvent(Status status, String message, Media media, CompletableFuture<String> screenshotPath,
+                             Date timestamp) {
     }
 
-    public static synchronized void endTest() {
-        if (!extentTestMap.isEmpty()) {
-            extent.removeTest(extentTestMap.get(getCurrentThread()));
+    private static final class ScenarioReport {
+        private final String name;
+        private final String description;
+        private final Date startTime = new Date();
+        private final Queue<StepEvent> steps = new ConcurrentLinkedQueue<>();
+        private volatile ExtentTest test;
+        private volatile Date endTime;
+
+        private ScenarioReport(String name, String description) {
+            this.name = name;
+            this.description = description;
         }
     }
 
     public static synchronized void initExtentConfiguration() {
         extent = ExtentConfiguration.getInstance();
+        if (flushTask == null) {
+            scheduleFlush();
+            ConfigProvider.addListener(flushIntervalListener);
+        }
+    }
+
+    private static synchronized void scheduleFlush() {
+        if (flushTask != null) {
+            flushTask.cancel(false);
+            flushTask = null;
+        }
+        long flushIntervalSeconds = ConfigProvider.getAsLong("EXTENT_FLUSH_INTERVAL", 0);
+        if (flushIntervalSeconds <= 0) {
+            return;
+        }
+        if (flushScheduler == null) {
+            flushScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "extent-flush");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        flushTask = flushScheduler.scheduleWithFixedDelay(() -> writeReport(false), flushIntervalSeconds,
+                flushIntervalSeconds, TimeUnit.SECONDS);
+    }
+
+    public static void startTest(String testName, final String description) {
+        ScenarioReport scenarioReport = new ScenarioReport(testName, description);
+        currentScenario.set(scenarioReport);
+        openScenarios.add(scenarioReport);
+    }
+
+    /**
+     * @return true if a scenario of this thread is being reported.
+     */
+    public static boolean hasTest() {
+        return currentScenario.get() != null;
+    }
+
+    public static void log(Status status, String message) {
+        log(status, message, (Media) null);
+    }
+
+    /**
+     * Adds a step to the test of the current scenario. Ignored outside a scenario.
+     *
+     * @param status  The step status.
+     * @param message The step message.
+     * @param media   The screenshot of the step, or null.
+     */
+    public static void log(Status status, String message, Media media) {
+        log(new StepEvent(status, message, media, null, new Date()));
+    }
+
+    /**
+     * Adds a step with a screenshot that is still being written (see ScreenshotPipeline), the path is only
+     * needed when the test is attached at the end of the scenario.
+     *
+     * @param status         The step status.
+     * @param message        The step message.
+     * @param screenshotPath Completes with the screenshot path relative to the report.
+     */
+    public static void log(Status status, String message, CompletableFuture<String> screenshotPath) {
+        log(new StepEvent(status, message, null, screenshotPath, new Date()));
+    }
+
+    private static void log(StepEvent stepEvent) {
+        ScenarioReport scenarioReport = currentScenario.get();
+        if (scenarioReport == null) {
+            return;
+        }
+        ExtentTest test = scenarioReport.test;
+        if (test != null) {
+            log(test, stepEvent);
+        } else {
+            scenarioReport.steps.add(stepEvent);
+        }
     }
 
-    public static synchronized void startTest(String testName, final String description) {
-//        extent = ExtentConfiguration.getInstance();
-        ExtentTest test = extent.createTest(testName, description);
-        extentTestMap.put(getCurrentThread(), test);
-        extentThreadList.add(getCurrentThread());
+    /**
+     * Attaches the test of the current scenario to the report right away, the next steps are logged on it directly.
+     * Prefer {@link #log(Status, String, Media)}, which only queues the step.
+     *
+     * @return The test of the current scenario, null outside a scenario.
+     */
+    public static ExtentTest getTest() {
+        ScenarioReport scenarioReport = currentScenario.get();
+        return scenarioReport == null ? null : attach(scenarioReport);
     }
 
-    private static synchronized int getCurrentThread() {
-        return (int) (Thread.currentThread().threadId());
+    /**
+     * Attaches the test of the current scenario with all its steps. Call it once at the end of the scenario.
+     */
+    public static void endTest() {
+        ScenarioReport scenarioReport = currentScenario.get();
+        if (scenarioReport != null) {
+            scenarioReport.endTime = new Date();
+            complete(attach(scenarioReport));
+            currentScenario.remove();
+        }
+    }
+
+    private static void complete(ExtentTest test) {
+        if (ExtentJournal.isEnabled()) {
+            ExtentJournal.append(test);
+            synchronized (ExtentTestManager.class) {
+                extent.removeTest(test);
+            }
+        }
+    }
+
+    /**
+     * @param force false to skip rendering the journal when it did not grow since the last render.
+     */
+    private static void writeReport(boolean force) {
+        try {
+            if (ExtentJournal.isEnabled()) {
+                renderJournal(force);
+            } else {
+                synchronized (ExtentTestManager.class) {
+                    extent.flush();
+                }
+            }
+        } catch (RuntimeException e) {
+            // IMPORTANT: an exception would cancel the next periodic flushes
+            LOGGER.warning("Failed to write the Extent report: " + e.getMessage());
+        }
+    }
+
+    private static void renderJournal(boolean force) {
+        Path journal = ExtentConfiguration.getJournalPath();
+        // IMPORTANT: not the ExtentJournal lock, appending a scenario never waits for a render
+        synchronized (renderLock) {
+            long journalSize;
+            try {
+                journalSize = Files.size(journal);
+            } catch (IOException e) {
+                // no scenario has ended yet
+                return;
+            }
+            if (!force && journalSize == renderedJournalSize) {
+                return;
+            }
+            // the size before the render, a line appended during the render is rendered next time
+            renderedJournalSize = journalSize;
+            ExtentJournal.render(journal, ExtentConfiguration.getReportPath());
+        }
+    }
+
+    /**
+     * Attaches the scenarios that did not end (e.g. a failed @After) and writes the report. Call it in @AfterAll.
+     */
+    public static void flush() {
+        ConfigProvider.removeListener(flushIntervalListener);
+        synchronized (ExtentTestManager.class) {
+            if (flushScheduler != null) {
+                flushScheduler.shutdownNow();
+                flushScheduler = null;
+                flushTask = null;
+            }
+        }
+        for (ScenarioReport scenarioReport : openScenarios) {
+            complete(attach(scenarioReport));
+        }
+        // the journal is complete once closed, the report is rendered from it
+        ExtentJournal.close();
+        if (extent != null) {
+            writeReport(true);
+        }
+    }
+
+    private static ExtentTest attach(ScenarioReport scenarioReport) {
+        if (scenarioReport.test == null) {
+            // IMPORTANT: the only lock, taken once per scenario to create its test
+            synchronized (ExtentTestManager.class) {
+                if (scenarioReport.test == null) {
+                    scenarioReport.test = extent.createTest(scenarioReport.name, scenarioReport.description);
+                }
+            }
+        }
+        StepEvent stepEvent;
+        while ((stepEvent = scenarioReport.steps.poll()) != null) {
+            log(scenarioReport.test, stepEvent);
+        }
+        // the test is created at the end of the scenario, its times are the ones of the scenario, not of the replay
+        Test model = scenarioReport.test.getModel();
+        model.setStartTime(scenarioReport.startTime);
+        if (scenarioReport.endTime != null) {
+            model.setEndTime(scenarioReport.endTime);
+        }
+        openScenarios.remove(scenarioReport);
+        return scenarioReport.test;
+    }
+
+    private static void log(ExtentTest test, StepEvent stepEvent) {
+        Media media = stepEvent.media();
+        if (stepEvent.screenshotPath() != null) {
+            try {
+                media = MediaEntityBuilder.createScreenCaptureFromPath(stepEvent.screenshotPath().join()).build();
+            } catch (CompletionException e) {
+                // the pipeline already logged why, the step is kept without its screenshot
+                media = null;
+            }
+        }
+        if (media == null) {
+            test.log(stepEvent.status(), stepEvent.message());
+        } else {
+            test.log(stepEvent.status(), stepEvent.message(), media);
+        }
+        List<Log> logs = test.getModel().getLogs();
+        logs.get(logs.size() - 1).setTimestamp(stepEvent.timestamp());
     }
 }
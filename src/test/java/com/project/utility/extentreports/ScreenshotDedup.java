@@ -0,0 +1,209 @@
+package com.project.utility.extentreports;
+
+import com.project.tests.utilities.ConfigProvider;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+/**
+ * Skips screenshots that show the same screen as the previous one of the scenario. <br>
+ * - Enabled with SCREENSHOT_DEDUP, a screenshot matches when it has the same bytes as the previous one or when their
+ * difference hashes (dHash, 16x16 grid of average brightness, 256 bits) differ in at most SCREENSHOT_DEDUP_THRESHOLD
+ * bits and at most SCREENSHOT_DEDUP_MAX_CHANGED_PIXELS of their sampled pixels differ <br>
+ * - Only every 2nd row and column is decoded, the previous screenshot of the thread is kept as one byte per sample <br>
+ * - A match returns the reference stored for the previous screenshot (a file path, an attachment name) instead of
+ * storing the bytes again <br>
+ * - Every channel (e.g. step attachments, report screenshots) is a separate instance, compared per thread
+ */
+public final class ScreenshotDedup<T> {
+    private static final Logger LOGGER = Logger.getLogger(ScreenshotDedup.class.getName());
+    private static final int HASH_SIZE = 16;
+    // every 2nd row and column is decoded, a quarter of the pixels, fine enough to see a changed character
+    private static final int SAMPLE_STEP = 2;
+    // brightness difference (0-255) below which two samples are the same pixel
+    private static final int PIXEL_TOLERANCE = 8;
+    private static final List<ScreenshotDedup<?>> channels = new CopyOnWriteArrayList<>();
+    private static final LongAdder checkedScreenshots = new LongAdder();
+    private static final LongAdder duplicateScreenshots = new LongAdder();
+    private static final LongAdder savedBytes = new LongAdder();
+
+    private final ThreadLocal<Frame<T>> lastFrame = new ThreadLocal<>();
+
+    private record Frame<T>(byte[] bytes, Sample sample, T reference) {
+    }
+
+    /**
+     * The subsampled brightness of a screenshot (one byte per sample) and its difference hash.
+     */
+    record Sample(long[] hash, int width, int height, byte[] luminance) {
+    }
+
+    public ScreenshotDedup() {
+        channels.add(this);
+    }
+
+    public static boolean isEnabled() {
+        return ConfigProvider.getAsBoolean("SCREENSHOT_DEDUP");
+    }
+
+    /**
+     * Stores the screenshot, unless it matches the previous one of this thread.
+     *
+     * @param png    The screenshot bytes.
+     * @param storer Stores the bytes and returns a reference to them.
+     * @return The new reference, or the reference of the previous screenshot when it matches.
+     */
+    public T store(byte[] png, Function<byte[], T> storer) {
+        if (!isEnabled()) {
+            return storer.apply(png);
+        }
+        checkedScreenshots.increment();
+        Frame<T> previous = lastFrame.get();
+        if (previous != null && Arrays.equals(previous.bytes(), png)) {
+            return reuse(previous, png);
+        }
+        Sample sample = sample(png);
+        if (previous != null && sample != null && previous.sample() != null
+                && distance(previous.sample().hash(), sample.hash())
+                <= ConfigProvider.getAsInt("SCREENSHOT_DEDUP_THRESHOLD", 0)
+                // IMPORTANT: the hash only sees the layout, the pixels confirm that no text or value changed
+                && changedPixels(previous.sample(), sample)
+                <= ConfigProvider.getAsInt("SCREENSHOT_DEDUP_MAX_CHANGED_PIXELS", 0)) {
+            return reuse(previous, png);
+        }
+        T reference = storer.apply(png);
+        lastFrame.set(new Frame<>(png, sample, reference));
+        return reference;
+    }
+
+    private T reuse(Frame<T> previous, byte[] png) {
+        duplicateScreenshots.increment();
+        savedBytes.add(png.length);
+        return previous.reference();
+    }
+
+    /**
+     * Forgets the previous screenshot of every channel for this thread, call it at the end of every scenario.
+     */
+    public static void endScenario() {
+        channels.forEach(channel -> channel.lastFrame.remove());
+    }
+
+    public static void logSummary() {
+        if (!isEnabled()) {
+            return;
+        }
+        LOGGER.info("[ScreenshotsChecked] is [" + checkedScreenshots.sum() + "], [ScreenshotsDeduplicated] is [" +
+                duplicateScreenshots.sum() + "], [ScreenshotBytesSaved] is [" + savedBytes.sum() + "]");
+    }
+
+    /**
+     * Decodes every SAMPLE_STEP-th row and column of the image (ImageReadParam source subsampling), so the full size
+     * image is never allocated, and computes its difference hash: the samples are reduced to a
+     * (HASH_SIZE + 1) x HASH_SIZE grid of average brightness and every bit tells whether a cell is brighter than its
+     * right neighbour.
+     *
+     * @return The sample, null if the bytes are not an image.
+     */
+    static Sample sample(byte[] png) {
+        BufferedImage image = decodeSubsampled(png);
+        if (image == null) {
+            LOGGER.warning("Screenshot could not be decoded, it is not deduplicated.");
+            return null;
+        }
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int columns = HASH_SIZE + 1;
+        long[] brightness = new long[columns * HASH_SIZE];
+        long[] pixelCounts = new long[columns * HASH_SIZE];
+        byte[] luminance = new byte[width * height];
+        int[] row = new int[width];
+        for (int y = 0; y < height; y++) {
+            image.getRGB(0, y, width, 1, row, 0, width);
+            int cellRow = (int) ((long) y * HASH_SIZE / height) * columns;
+            for (int x = 0; x < width; x++) {
+                int rgb = row[x];
+                long pixelBrightness = (rgb >> 16 & 0xFF) * 299L + (rgb >> 8 & 0xFF) * 587L + (rgb & 0xFF) * 114L;
+                int cell = cellRow + (int) ((long) x * columns / width);
+                brightness[cell] += pixelBrightness;
+                pixelCounts[cell]++;
+                luminance[y * width + x] = (byte) (pixelBrightness / 1000);
+            }
+        }
+        long[] hash = new long[HASH_SIZE * HASH_SIZE / Long.SIZE];
+        int bit = 0;
+        for (int y = 0; y < HASH_SIZE; y++) {
+            for (int x = 0; x < HASH_SIZE; x++) {
+                int cell = y * columns + x;
+                if (average(brightness, pixelCounts, cell) > average(brightness, pixelCounts, cell + 1)) {
+                    hash[bit / Long.SIZE] |= 1L << (bit % Long.SIZE);
+                }
+                bit++;
+            }
+        }
+        return new Sample(hash, width, height, luminance);
+    }
+
+    private static BufferedImage decodeSubsampled(byte[] png) {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(png))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(SAMPLE_STEP, SAMPLE_STEP, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return The number of samples whose brightness differs by more than PIXEL_TOLERANCE, or Integer.MAX_VALUE
+     * when the samples do not have the same size.
+     */
+    static int changedPixels(Sample first, Sample second) {
+        if (first.width() != second.width() || first.height() != second.height()) {
+            return Integer.MAX_VALUE;
+        }
+        byte[] firstLuminance = first.luminance();
+        byte[] secondLuminance = second.luminance();
+        int changedPixels = 0;
+        for (int i = 0; i < firstLuminance.length; i++) {
+            if (Math.abs((firstLuminance[i] & 0xFF) - (secondLuminance[i] & 0xFF)) > PIXEL_TOLERANCE) {
+                changedPixels++;
+            }
+        }
+        return changedPixels;
+    }
+
+    private static long average(long[] brightness, long[] pixelCounts, int cell) {
+        return pixelCounts[cell] == 0 ? 0 : brightness[cell] / pixelCounts[cell];
+    }
+
+    static int distance(long[] firstHash, long[] secondHash) {
+        int distance = 0;
+        for (int i = 0; i < firstHash.length; i++) {
+            distance += Long.bitCount(firstHash[i] ^ secondHash[i]);
+        }
+        return distance;
+    }
+}
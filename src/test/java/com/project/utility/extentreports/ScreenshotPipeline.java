@@ -0,0 +1,250 @@
+package com.project.utility.extentreports;
+
+import com.project.tests.utilities.ConfigProvider;
+import com.project.tests.utilities.RunEvents;
+import org.apache.logging.log4j.ThreadContext;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+/**
+ * Screenshot capture and saving, split so the scenario thread only pays for the driver call. <br>
+ * - {@link #capture(WebDriver)} takes the PNG bytes inline and remembers them as the last capture of the thread <br>
+ * - {@link #captureOrReuse(WebDriver)} returns the last capture when no step ran since (e.g. the failure screenshot
+ * in @After, right after the @AfterStep one), {@link #invalidate()} is called in @BeforeStep <br>
+ * - {@link #write(byte[], Path)} and {@link #store(byte[], ScreenshotStore, String)} decode, stamp
+ * (SCREENSHOT_TIMESTAMP), re-encode (SCREENSHOT_FORMAT) and write on SCREENSHOT_THREADS background threads.
+ * When SCREENSHOT_QUEUE_SIZE screenshots are waiting, the caller writes its own screenshot, which bounds the memory
+ * held by the queue. A reloaded SCREENSHOT_THREADS resizes the pool, SCREENSHOT_QUEUE_SIZE needs a restart
+ */
+public final class ScreenshotPipeline {
+    private static final Logger LOGGER = Logger.getLogger(ScreenshotPipeline.class.getName());
+    private static final ThreadLocal<byte[]> lastCapture = new ThreadLocal<>();
+    private static final LongAdder captures = new LongAdder();
+    private static final LongAdder reusedCaptures = new LongAdder();
+    private static final LongAdder writtenScreenshots = new LongAdder();
+    private static final LongAdder callerWrites = new LongAdder();
+    private static ThreadPoolExecutor executor;
+
+    static {
+        ConfigProvider.addListener((previous, current, changedKeys) -> {
+            if (changedKeys.contains("SCREENSHOT_THREADS")) {
+                resizeExecutor();
+            }
+        });
+    }
+
+    private ScreenshotPipeline() {
+    }
+
+    /**
+     * @return The extension of the written files, ".png" or ".jpg" (SCREENSHOT_FORMAT).
+     */
+    public static String getExtension() {
+        return isJpeg() ? ".jpg" : ".png";
+    }
+
+    private static boolean isJpeg() {
+        String format = ConfigProvider.getAsString("SCREENSHOT_FORMAT", "png").trim();
+        return format.equalsIgnoreCase("jpg") || format.equalsIgnoreCase("jpeg");
+    }
+
+    public static byte[] capture(WebDriver driver) {
+        byte[] bytes = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+        captures.increment();
+        lastCapture.set(bytes);
+        return bytes;
+    }
+
+    /**
+     * @return The last capture of this thread if no step ran since, else a new capture.
+     */
+    public static byte[] captureOrReuse(WebDriver driver) {
+        byte[] bytes = lastCapture.get();
+        if (bytes != null) {
+            reusedCaptures.increment();
+            return bytes;
+        }
+        return capture(driver);
+    }
+
+    /**
+     * @return true if {@link #captureOrReuse(WebDriver)} would return the last capture of this thread.
+     */
+    public static boolean hasCapture() {
+        return lastCapture.get() != null;
+    }
+
+    /**
+     * Forgets the last capture of this thread, call it before every step.
+     */
+    public static void invalidate() {
+        lastCapture.remove();
+    }
+
+    /**
+     * Saves the screenshot in the background.
+     *
+     * @param png    The bytes returned by the driver.
+     * @param target The file to write, its extension should be {@link #getExtension()}.
+     * @return Completes with the target once the file is written, exceptionally if it could not be written.
+     */
+    public static CompletableFuture<Path> write(byte[] png, Path target) {
+        String scenario = ThreadContext.get("scenario");
+        // IMPORTANT: the time of the step, not the time the queued screenshot is encoded
+        long capturedAtMillis = System.currentTimeMillis();
+        return CompletableFuture.supplyAsync(() -> encodeAndWrite(png, target, scenario, capturedAtMillis),
+                getExecutor());
+    }
+
+    /**
+     * Saves the screenshot in the content-addressed store in the background and records it in the store manifest.
+     *
+     * @param png   The bytes returned by the driver.
+     * @param store The store.
+     * @param step  The step or message the screenshot belongs to.
+     * @return Completes with the stored entry, exceptionally if it could not be written.
+     */
+    public static CompletableFuture<ScreenshotStore.Entry> store(byte[] png, ScreenshotStore store, String step) {
+        String scenario = ThreadContext.get("scenario");
+        long capturedAtMillis = System.currentTimeMillis();
+        return CompletableFuture.supplyAsync(() -> encodeAndStore(png, store, scenario, step, capturedAtMillis),
+                getExecutor());
+    }
+
+    private static Path encodeAndWrite(byte[] png, Path target, String scenario, long capturedAtMillis) {
+        long start = System.nanoTime();
+        try {
+            byte[] bytes = encode(png, capturedAtMillis);
+            if (target.getParent() != null) {
+                Files.createDirectories(target.getParent());
+            }
+            Files.write(target, bytes);
+            writtenScreenshots.increment();
+            RunEvents.emit("screenshot", "scenario", scenario, "path", target.toString(), "bytes", bytes.length,
+                    "durationMs", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            return target;
+        } catch (IOException e) {
+            LOGGER.warning("Not able to save screenshot [" + target + "]: " + e.getMessage());
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static ScreenshotStore.Entry encodeAndStore(byte[] png, ScreenshotStore store, String scenario,
+                                                        String step, long capturedAtMillis) {
+        long start = System.nanoTime();
+        try {
+            byte[] bytes = encode(png, capturedAtMillis);
+            ScreenshotStore.Entry entry = store.put(bytes, getExtension());
+            store.record(scenario, step, entry);
+            if (entry.isNew()) {
+                writtenScreenshots.increment();
+            }
+            RunEvents.emit("screenshot", "scenario", scenario, "hash", entry.hash(), "new", entry.isNew(),
+                    "bytes", bytes.length, "durationMs", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            return entry;
+        } catch (IOException e) {
+            LOGGER.warning("Not able to store screenshot of [" + step + "]: " + e.getMessage());
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] encode(byte[] png, long capturedAtMillis) throws IOException {
+        boolean isJpeg = isJpeg();
+        boolean isTimestampRequired = ConfigProvider.getAsBoolean("SCREENSHOT_TIMESTAMP");
+        if (!isJpeg && !isTimestampRequired) {
+            return png;
+        }
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+        if (isTimestampRequired) {
+            Screenshots.stampTimestamp(image, capturedAtMillis);
+        }
+        return encode(image, isJpeg);
+    }
+
+    private static byte[] encode(BufferedImage image, boolean isJpeg) throws IOException {
+        BufferedImage encodedImage = image;
+        if (isJpeg && image.getColorModel().hasAlpha()) {
+            // IMPORTANT: the JPEG writer rejects images with an alpha channel
+            encodedImage = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+            encodedImage.createGraphics().drawImage(image, 0, 0, null);
+        }
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(encodedImage, isJpeg ? "jpg" : "png", outputStream);
+        return outputStream.toByteArray();
+    }
+
+    private static synchronized ThreadPoolExecutor getExecutor() {
+        if (executor == null) {
+            int threads = Math.max(1, ConfigProvider.getAsInt("SCREENSHOT_THREADS", 2));
+            int queueSize = Math.max(1, ConfigProvider.getAsInt("SCREENSHOT_QUEUE_SIZE", 32));
+            AtomicInteger threadNumber = new AtomicInteger();
+            executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(queueSize), runnable -> {
+                Thread thread = new Thread(runnable, "screenshot-writer-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }, (runnable, rejectingExecutor) -> {
+                // IMPORTANT: also runs after shutdown, so no write future is left incomplete
+                callerWrites.increment();
+                runnable.run();
+            });
+        }
+        return executor;
+    }
+
+    private static synchronized void resizeExecutor() {
+        if (executor == null) {
+            return;
+        }
+        int threads = Math.max(1, ConfigProvider.getAsInt("SCREENSHOT_THREADS", 2));
+        // IMPORTANT: the core size may never exceed the maximum size, the order depends on the direction
+        if (threads > executor.getMaximumPoolSize()) {
+            executor.setMaximumPoolSize(threads);
+            executor.setCorePoolSize(threads);
+        } else {
+            executor.setCorePoolSize(threads);
+            executor.setMaximumPoolSize(threads);
+        }
+    }
+
+    /**
+     * Waits for the pending writes and logs the totals. Call it once in @AfterAll.
+     */
+    public static void shutdown() {
+        ThreadPoolExecutor currentExecutor;
+        synchronized (ScreenshotPipeline.class) {
+            currentExecutor = executor;
+            executor = null;
+        }
+        if (currentExecutor != null) {
+            currentExecutor.shutdown();
+            try {
+                if (!currentExecutor.awaitTermination(2, TimeUnit.MINUTES)) {
+                    LOGGER.warning("Screenshots still being written after 2 minutes.");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        LOGGER.info("[ScreenshotCaptures] is [" + captures.sum() + "], [ScreenshotsReused] is [" +
+                reusedCaptures.sum() + "], [ScreenshotsWritten] is [" + writtenScreenshots.sum() +
+                "], [ScreenshotsWrittenByCaller] is [" + callerWrites.sum() + "]");
+    }
+}
@@ -0,0 +1,156 @@
+package com.project.utility.extentreports;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+/**
+ * Content-addressed screenshot folder. <br>
+ * - A screenshot is saved as &lt;sha-256&gt;.&lt;ext&gt; in a sub folder named after the first two hash characters,
+ * so names never collide and a screenshot that is already stored is not written again <br>
+ * - Files are written to a temporary file of the same folder and renamed, readers never see a partial file.
+ * They are readable by everyone (rw-r--r--) on POSIX file systems <br>
+ * - manifest.ndjson maps every scenario step to the hash of its screenshot, one JSON object per line. The file is
+ * shared by all runs, the "run" field (JVM start time and pid) tells them apart
+ */
+public final class ScreenshotStore {
+    private static final Logger LOGGER = Logger.getLogger(ScreenshotStore.class.getName());
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final String MANIFEST = "manifest.ndjson";
+    // IMPORTANT: createTempFile creates the file as 0600, the report is read by other users (e.g. the CI web server)
+    private static final Set<PosixFilePermission> FILE_PERMISSIONS = PosixFilePermissions.fromString("rw-r--r--");
+    // the start of this JVM and its pid, every fork of a run has its own id
+    private static final String RUN_ID = Instant.ofEpochMilli(ManagementFactory.getRuntimeMXBean().getStartTime()) +
+            "-" + ProcessHandle.current().pid();
+    private static final LongAdder storedScreenshots = new LongAdder();
+    private static final LongAdder duplicateScreenshots = new LongAdder();
+
+    private final Path root;
+    private BufferedWriter manifestWriter;
+
+    /**
+     * @param hash  The hex SHA-256 of the bytes.
+     * @param path  The path of the file, relative to the store root (e.g. ab/ab12...ef.png).
+     * @param isNew false if the same bytes were already stored.
+     */
+    public record Entry(String hash, Path path, boolean isNew) {
+    }
+
+    public ScreenshotStore(Path root) {
+        this.root = root;
+    }
+
+    /**
+     * Stores the bytes under their hash.
+     *
+     * @param bytes     The encoded image.
+     * @param extension The file extension, e.g. ".png".
+     * @return The stored entry.
+     */
+    public Entry put(byte[] bytes, String extension) throws IOException {
+        String hash = hash(bytes);
+        Path relativePath = Path.of(hash.substring(0, 2), hash + extension);
+        Path target = root.resolve(relativePath);
+        if (Files.exists(target)) {
+            duplicateScreenshots.increment();
+            return new Entry(hash, relativePath, false);
+        }
+        Files.createDirectories(target.getParent());
+        Path temporaryFile = Files.createTempFile(target.getParent(), hash, ".tmp");
+        try {
+            Files.write(temporaryFile, bytes);
+            if (temporaryFile.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+                Files.setPosixFilePermissions(temporaryFile, FILE_PERMISSIONS);
+            }
+            try {
+                Files.move(temporaryFile, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporaryFile, target);
+            }
+        } catch (FileAlreadyExistsException e) {
+            // IMPORTANT: another thread stored the same bytes first, its file is identical
+            duplicateScreenshots.increment();
+            return new Entry(hash, relativePath, false);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+        storedScreenshots.increment();
+        return new Entry(hash, relativePath, true);
+    }
+
+    /**
+     * Appends a line to manifest.ndjson.
+     *
+     * @param scenario The scenario name.
+     * @param step     The step or message the screenshot belongs to.
+     * @param entry    The stored screenshot.
+     */
+    public synchronized void record(String scenario, String step, Entry entry) {
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("run", RUN_ID);
+        line.put("ts", System.currentTimeMillis());
+        line.put("scenario", scenario);
+        line.put("step", step);
+        line.put("hash", entry.hash());
+        line.put("path", entry.path().toString().replace('\\', '/'));
+        try {
+            if (manifestWriter == null) {
+                Files.createDirectories(root);
+                manifestWriter = Files.newBufferedWriter(root.resolve(MANIFEST), StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+            manifestWriter.write(OBJECT_MAPPER.writeValueAsString(line));
+            manifestWriter.newLine();
+            manifestWriter.flush();
+        } catch (JsonProcessingException e) {
+            LOGGER.warning("Failed to serialize the manifest line of [" + entry.hash() + "]: " + e.getMessage());
+        } catch (IOException e) {
+            LOGGER.warning("Failed to write the screenshot manifest in [" + root + "]: " + e.getMessage());
+        }
+    }
+
+    public synchronized void close() {
+        if (manifestWriter != null) {
+            try {
+                manifestWriter.close();
+            } catch (IOException e) {
+                LOGGER.warning("Failed to close the screenshot manifest: " + e.getMessage());
+            }
+            manifestWriter = null;
+        }
+    }
+
+    public static void logSummary() {
+        LOGGER.info("[ScreenshotsStored] is [" + storedScreenshots.sum() + "], [ScreenshotsAlreadyStored] is [" +
+                duplicateScreenshots.sum() + "]");
+    }
+
+    private static String hash(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
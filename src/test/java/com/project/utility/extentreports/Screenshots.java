@@ -1,10 +1,6 @@
 package com.project.utility.extentreports;
 
-import com.aventstack.extentreports.MediaEntityBuilder;
-import org.apache.commons.io.FileUtils;
-import org.apache.commons.lang3.RandomStringUtils;
-import org.openqa.selenium.OutputType;
-import org.openqa.selenium.TakesScreenshot;
+import com.aventstack.extentreports.Status;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.remote.RemoteWebDriver;
 
@@ -13,52 +9,53 @@ import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 public class Screenshots {
     private static final String SCREENSHOTS_FOLDER =  File.separator + "AutomationReports" + File.separator + "screenshots" + File.separator;
     private static final Logger LOGGER = Logger.getLogger(ExtentConfiguration.class.getName());
     private static String SCREENSHOTS_FOLDER_PATH;
+    private static final ScreenshotDedup<CompletableFuture<String>> REPORT_FRAMES = new ScreenshotDedup<>();
+    private static final ScreenshotStore STORE;
 
     static {
         createDirectory();
+        STORE = new ScreenshotStore(Path.of(SCREENSHOTS_FOLDER_PATH));
     }
 
     public static void addInfoStepWithScreenshotInReport(WebDriver driver, String message) {
         if (driver != null) {
-            String path = captureScreenshot(driver);
-            ExtentTestManager.getTest().info(message, MediaEntityBuilder.createScreenCaptureFromPath(path).build());
+            ExtentTestManager.log(Status.INFO, message, captureScreenshot(driver, message));
         } else {
-            ExtentTestManager.getTest().info(message);
+            ExtentTestManager.log(Status.INFO, message);
         }
     }
 
     public static void addPassStepWithScreenshotInReport(WebDriver driver, String message) {
         if (driver != null) {
-            String path = captureScreenshot(driver);
-            ExtentTestManager.getTest().pass(message, MediaEntityBuilder.createScreenCaptureFromPath(path).build());
+            ExtentTestManager.log(Status.PASS, message, captureScreenshot(driver, message));
         } else {
-            ExtentTestManager.getTest().pass(message);
+            ExtentTestManager.log(Status.PASS, message);
         }
     }
 
     public static void addWarningStepWithScreenshotInReport(WebDriver driver, String message) {
         if (driver != null) {
-            String path = captureScreenshot(driver);
-            ExtentTestManager.getTest().warning(message, MediaEntityBuilder.createScreenCaptureFromPath(path).build());
+            ExtentTestManager.log(Status.WARNING, message, captureScreenshot(driver, message));
         } else {
-            ExtentTestManager.getTest().pass(message);
+            ExtentTestManager.log(Status.WARNING, message);
         }
     }
 
     public static void addFailureStepWithScreenshotInReport(WebDriver driver, String message) {
         if (driver != null) {
-            String path = captureScreenshot(driver);
-            ExtentTestManager.getTest().fail(message, MediaEntityBuilder.createScreenCaptureFromPath(path).build());
+            ExtentTestManager.log(Status.FAIL, message, captureScreenshot(driver, message));
         } else {
-            ExtentTestManager.getTest().pass(message);
+            ExtentTestManager.log(Status.FAIL, message);
         }
     }
 
@@ -74,35 +71,49 @@ public class Screenshots {
         }
     }
 
-    protected static String captureScreenshot(WebDriver driver) {
-        String randomNumber = RandomStringUtils.randomNumeric(5);
-        String destinationPath = SCREENSHOTS_FOLDER_PATH + "screenshot" + randomNumber + ".jpg";
-        String impPath = ".." + SCREENSHOTS_FOLDER + "screenshot" + randomNumber + ".jpg";
-        TakesScreenshot ts = (TakesScreenshot) driver;
-        File srcFile = ts.getScreenshotAs(OutputType.FILE);
-        try {
-//            updateTimeStamp(srcFile, destinationPath);
-            FileUtils.copyFile(srcFile, new File(destinationPath));
-        } catch (IOException e) {
-            LOGGER.warning("Not able to capture screenshot!");
-        }
-        return impPath;
+    /**
+     * Captures the screenshot now and saves it in the background, see ScreenshotPipeline.
+     *
+     * @return Completes with the path of the file relative to the report, once it is written.
+     */
+    protected static CompletableFuture<String> captureScreenshot(WebDriver driver, String message) {
+        byte[] screenshotBytes = ScreenshotPipeline.capture(driver);
+        // the same screen as the previous report screenshot of the scenario points to the same file
+        return REPORT_FRAMES.store(screenshotBytes, bytes -> ScreenshotPipeline.store(bytes, STORE, message)
+                .thenApply(entry -> ".." + SCREENSHOTS_FOLDER + entry.path().toString().replace('\\', '/')));
+    }
+
+    /**
+     * Closes the manifest of the screenshot store and logs its totals. Call it once in @AfterAll.
+     */
+    public static void endRun() {
+        STORE.close();
+        ScreenshotStore.logSummary();
     }
 
     public static void updateTimeStamp(File sourceFileName, String targetFileName) {
         final BufferedImage image;
         try {
             image = ImageIO.read(sourceFileName);
-            SimpleDateFormat formatter = new SimpleDateFormat();
-            Graphics graphics = image.getGraphics();
-            graphics.setFont(graphics.getFont().deriveFont(18f));
-            graphics.setColor(new Color(255, 20, 20));
-            Date date = new Date(System.currentTimeMillis());
-            graphics.drawString(formatter.format(date), image.getWidth() - 250, image.getHeight() - 20);
-            graphics.dispose();
+            stampTimestamp(image, System.currentTimeMillis());
             ImageIO.write(image, "png", new File(targetFileName));
         } catch (IOException e) {
             LOGGER.warning(e.getMessage());
         }
     }
+
+    /**
+     * Draws the date and time in the bottom right corner of the image.
+     *
+     * @param timeMillis The time the screenshot was taken.
+     */
+    static void stampTimestamp(BufferedImage image, long timeMillis) {
+        SimpleDateFormat formatter = new SimpleDateFormat();
+        Graphics graphics = image.getGraphics();
+        graphics.setFont(graphics.getFont().deriveFont(18f));
+        graphics.setColor(new Color(255, 20, 20));
+        Date date = new Date(timeMillis);
+        graphics.drawString(formatter.format(date), image.getWidth() - 250, image.getHeight() - 20);
+        graphics.dispose();
+    }
 }
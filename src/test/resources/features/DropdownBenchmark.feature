@@ -0,0 +1,6 @@
+Feature: Dropdown extraction benchmark
+
+  @Benchmark
+  Scenario: Read all options of a 1000 option dropdown
+    Given Load the dropdown benchmark page with 1000 options
+    Then Compare reading the dropdown options with one script call and with Select